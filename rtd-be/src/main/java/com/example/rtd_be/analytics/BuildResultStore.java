@@ -0,0 +1,142 @@
+package com.example.rtd_be.analytics;
+
+import com.example.rtd_be.dto.CacheStats;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import java.sql.PreparedStatement;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In-process cache of recent builds' results in columnar form, loaded lazily
+ * per build and evicted least recently used once the memory budget is spent.
+ * Test names and modules are dictionary-encoded across builds, so a cached
+ * build costs about 17 bytes per test; the dictionaries count against the
+ * budget and are rebuilt once they take up half of it.
+ */
+@Component
+public class BuildResultStore {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final String LOAD_SQL =
+            "SELECT d.name, d.module, t.status, t.duration FROM test_cases t"
+                    + " JOIN test_definitions d ON d.id = t.test_id WHERE t.build_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final long maxBytes;
+    private final LinkedHashMap<Long, BuildResults> builds = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, Long> buildVersions = new HashMap<>();
+    private Dictionary names = new Dictionary();
+    private Dictionary modules = new Dictionary();
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public BuildResultStore(JdbcTemplate jdbcTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.analytics.enabled:true}") boolean enabled,
+                            @Value("${app.analytics.max-size:256MB}") DataSize maxSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.maxBytes = maxSize.toBytes();
+        Gauge.builder("rtd.analytics.builds", this, store -> store.stats().getEntries())
+                .description("Builds held in the columnar results store")
+                .register(meterRegistry);
+        Gauge.builder("rtd.analytics.size", this, store -> store.stats().getBytes())
+                .description("Estimated memory used by the columnar results store")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /** Returns null when the store is disabled, in which case callers query the database. */
+    public BuildResults get(Long buildId) {
+        if (!enabled) {
+            return null;
+        }
+        long version;
+        Dictionary loadNames;
+        Dictionary loadModules;
+        synchronized (this) {
+            BuildResults cached = builds.get(buildId);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+            version = buildVersions.getOrDefault(buildId, 0L);
+            loadNames = names;
+            loadModules = modules;
+        }
+
+        BuildResults loaded = load(buildId, loadNames, loadModules);
+
+        synchronized (this) {
+            boolean unchanged = names == loadNames && buildVersions.getOrDefault(buildId, 0L) == version;
+            if (unchanged && loaded.bytes() <= maxBytes) {
+                BuildResults previous = builds.put(buildId, loaded);
+                if (previous != null) {
+                    bytes -= previous.bytes();
+                }
+                bytes += loaded.bytes();
+                evictToBudget();
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void invalidateBuild(Long buildId) {
+        if (buildId == null) {
+            return;
+        }
+        buildVersions.merge(buildId, 1L, Long::sum);
+        BuildResults removed = builds.remove(buildId);
+        if (removed != null) {
+            bytes -= removed.bytes();
+        }
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits, misses, evictions, builds.size(), bytes + names.bytes() + modules.bytes(),
+                maxBytes);
+    }
+
+    private BuildResults load(Long buildId, Dictionary names, Dictionary modules) {
+        BuildResults.Builder builder = BuildResults.builder(names, modules);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(LOAD_SQL);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, buildId);
+            return statement;
+        }, rs -> {
+            double duration = rs.getDouble(4);
+            builder.add(rs.getString(1), rs.getString(2), rs.getString(3), rs.wasNull() ? Double.NaN : duration);
+        });
+        return builder.build();
+    }
+
+    private void evictToBudget() {
+        long dictionaryBytes = names.bytes() + modules.bytes();
+        if (dictionaryBytes > maxBytes / 2) {
+            evictions += builds.size();
+            builds.clear();
+            bytes = 0;
+            names = new Dictionary();
+            modules = new Dictionary();
+            return;
+        }
+        Iterator<BuildResults> it = builds.values().iterator();
+        while (bytes + dictionaryBytes > maxBytes && it.hasNext()) {
+            bytes -= it.next().bytes();
+            it.remove();
+            evictions++;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.rtd_be.analytics;
+
+import com.example.rtd_be.dto.ModuleStatusCount;
+import com.example.rtd_be.model.TestCase;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One build's test results in columnar form, ordered by test name and then
+ * module, with a missing module first: dictionary
+ * ids for names and modules, a status code per test (0 = none, else ordinal + 1)
+ * and durations with NaN for a missing value.
+ */
+public final class BuildResults {
+
+    private static final TestCase.Status[] STATUSES = TestCase.Status.values();
+    private static final long OVERHEAD_BYTES = 128;
+    private static final int NO_MODULE = -1;
+
+    private final Dictionary names;
+    private final Dictionary modules;
+    private final int size;
+    private final int[] nameIds;
+    private final int[] moduleIds;
+    private final byte[] statuses;
+    private final double[] durations;
+
+    private BuildResults(Dictionary names, Dictionary modules, int size, int[] nameIds, int[] moduleIds,
+                         byte[] statuses, double[] durations) {
+        this.names = names;
+        this.modules = modules;
+        this.size = size;
+        this.nameIds = nameIds;
+        this.moduleIds = moduleIds;
+        this.statuses = statuses;
+        this.durations = durations;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String name(int row) {
+        return names.get(nameIds[row]);
+    }
+
+    public String module(int row) {
+        int id = moduleIds[row];
+        return id == NO_MODULE ? null : modules.get(id);
+    }
+
+    public TestCase.Status status(int row) {
+        int code = statuses[row];
+        return code == 0 ? null : STATUSES[code - 1];
+    }
+
+    public Double duration(int row) {
+        double duration = durations[row];
+        return Double.isNaN(duration) ? null : duration;
+    }
+
+    /** True when both builds draw names and modules from the same dictionaries, so equal ids mean equal strings. */
+    public boolean sharesDictionariesWith(BuildResults other) {
+        return names == other.names && modules == other.modules;
+    }
+
+    public int nameId(int row) {
+        return nameIds[row];
+    }
+
+    public int moduleId(int row) {
+        return moduleIds[row];
+    }
+
+    public List<ModuleStatusCount> countByModuleAndStatus() {
+        Map<Integer, ModuleStatus> totals = new HashMap<>();
+        for (int row = 0; row < size; row++) {
+            int key = (moduleIds[row] + 1) * (STATUSES.length + 1) + statuses[row];
+            int index = row;
+            ModuleStatus total = totals.computeIfAbsent(key,
+                    k -> new ModuleStatus(module(index), status(index)));
+            total.count++;
+            if (!Double.isNaN(durations[row])) {
+                total.totalDuration += durations[row];
+            }
+        }
+        return new ArrayList<>(totals.values());
+    }
+
+    long bytes() {
+        return OVERHEAD_BYTES + (long) nameIds.length * (4 + 4 + 1 + 8);
+    }
+
+    static Builder builder(Dictionary names, Dictionary modules) {
+        return new Builder(names, modules);
+    }
+
+    private static final class ModuleStatus implements ModuleStatusCount {
+        private final String module;
+        private final TestCase.Status status;
+        private long count;
+        private double totalDuration;
+
+        ModuleStatus(String module, TestCase.Status status) {
+            this.module = module;
+            this.status = status;
+        }
+
+        @Override
+        public String getModule() {
+            return module;
+        }
+
+        @Override
+        public TestCase.Status getStatus() {
+            return status;
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public Double getTotalDuration() {
+            return totalDuration;
+        }
+    }
+
+    static final class Builder {
+        private final Dictionary names;
+        private final Dictionary modules;
+        private int size;
+        private int[] nameIds = new int[1024];
+        private int[] moduleIds = new int[1024];
+        private byte[] statuses = new byte[1024];
+        private double[] durations = new double[1024];
+
+        private Builder(Dictionary names, Dictionary modules) {
+            this.names = names;
+            this.modules = modules;
+        }
+
+        void add(String name, String module, String status, double duration) {
+            if (size == nameIds.length) {
+                int capacity = size * 2;
+                nameIds = Arrays.copyOf(nameIds, capacity);
+                moduleIds = Arrays.copyOf(moduleIds, capacity);
+                statuses = Arrays.copyOf(statuses, capacity);
+                durations = Arrays.copyOf(durations, capacity);
+            }
+            nameIds[size] = names.intern(name);
+            moduleIds[size] = module != null ? modules.intern(module) : NO_MODULE;
+            statuses[size] = status != null ? (byte) (TestCase.Status.valueOf(status).ordinal() + 1) : 0;
+            durations[size] = duration;
+            size++;
+        }
+
+        BuildResults build() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparing((Integer row) -> names.get(nameIds[row]))
+                    .thenComparing(row -> moduleIds[row] == NO_MODULE ? null : modules.get(moduleIds[row]),
+                            Comparator.nullsFirst(Comparator.naturalOrder())));
+
+            int[] sortedNames = new int[size];
+            int[] sortedModules = new int[size];
+            byte[] sortedStatuses = new byte[size];
+            double[] sortedDurations = new double[size];
+            for (int i = 0; i < size; i++) {
+                int row = order[i];
+                sortedNames[i] = nameIds[row];
+                sortedModules[i] = moduleIds[row];
+                sortedStatuses[i] = statuses[row];
+                sortedDurations[i] = durations[row];
+            }
+            return new BuildResults(names, modules, size, sortedNames, sortedModules, sortedStatuses,
+                    sortedDurations);
+        }
+    }
+}
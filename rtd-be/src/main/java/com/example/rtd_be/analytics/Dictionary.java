@@ -0,0 +1,42 @@
+package com.example.rtd_be.analytics;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Append-only string dictionary shared by the cached builds. Ids are handed out
+ * under the lock; reads are unsynchronized because a build's ids are only
+ * published, through the store's lock, after they were interned.
+ */
+final class Dictionary {
+
+    private static final long ENTRY_BYTES = 96;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private volatile String[] values = new String[1024];
+    private int size;
+    private long bytes;
+
+    synchronized int intern(String value) {
+        Integer id = ids.get(value);
+        if (id != null) {
+            return id;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size] = value;
+        ids.put(value, size);
+        bytes += ENTRY_BYTES + 2L * value.length();
+        return size++;
+    }
+
+    String get(int id) {
+        return values[id];
+    }
+
+    synchronized long bytes() {
+        return bytes + 8L * values.length;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.rtd_be.bulk;
+
+public enum BulkAction {
+    STATUS,
+    DELETE,
+    MOVE
+}
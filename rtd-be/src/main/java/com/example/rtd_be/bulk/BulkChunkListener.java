@@ -0,0 +1,12 @@
+package com.example.rtd_be.bulk;
+
+import com.example.rtd_be.model.TestCase;
+import java.util.Map;
+import java.util.Set;
+
+@FunctionalInterface
+public interface BulkChunkListener {
+    BulkChunkListener NONE = (buildIds, statusDeltas, flakinessChanged) -> { };
+
+    void onChunkCommitted(Set<Long> buildIds, Map<TestCase.Status, Long> statusDeltas, Set<Long> flakinessChanged);
+}
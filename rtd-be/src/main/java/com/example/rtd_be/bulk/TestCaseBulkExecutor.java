@@ -0,0 +1,285 @@
+package com.example.rtd_be.bulk;
+
+import com.example.rtd_be.dto.BulkOperationResult;
+import com.example.rtd_be.dto.BulkTestCaseRequest;
+import com.example.rtd_be.history.ResultEntry;
+import com.example.rtd_be.history.TestHistoryStore;
+import com.example.rtd_be.model.TestCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies status changes, deletes and moves to every test case matching a
+ * filter without loading entities. Matching ids are walked in keyset chunks;
+ * each chunk is locked, changed with one set-based statement and has its
+ * history adjusted in its own transaction, so a large cleanup never holds one
+ * long transaction and a failure keeps the chunks already committed.
+ */
+@Component
+public class TestCaseBulkExecutor {
+
+    private static final String SELECT_SQL = "SELECT t.id, t.test_id, t.build_id, t.status, t.duration";
+    private static final String COUNT_SQL = "SELECT COUNT(*), COUNT(DISTINCT t.test_id)";
+    private static final String FROM_SQL = " FROM test_cases t";
+    private static final String JOIN_DEFINITIONS_SQL = " JOIN test_definitions d ON d.id = t.test_id";
+    private static final String CHUNK_SUFFIX = " ORDER BY t.id LIMIT ? FOR UPDATE OF t";
+    private static final String UPDATE_STATUS_PREFIX = "UPDATE test_cases SET status = ? WHERE id IN (";
+    private static final String UPDATE_BUILD_PREFIX = "UPDATE test_cases SET build_id = ? WHERE id IN (";
+    private static final String DELETE_PREFIX = "DELETE FROM test_cases WHERE id IN (";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TestHistoryStore historyStore;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxIds;
+
+    public TestCaseBulkExecutor(JdbcTemplate jdbcTemplate,
+                                TestHistoryStore historyStore,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.bulk.chunk-size:1000}") int chunkSize,
+                                @Value("${app.bulk.max-ids:10000}") int maxIds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.historyStore = historyStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.maxIds = maxIds;
+    }
+
+    public BulkOperationResult execute(BulkAction action, BulkTestCaseRequest request, BulkChunkListener listener) {
+        Filter filter = filter(action, request);
+        long start = System.nanoTime();
+
+        if (request.isDryRun()) {
+            long[] counts = jdbcTemplate.queryForObject(COUNT_SQL + filter.sql(),
+                    (rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2) }, filter.args(0).toArray());
+            long affected = action == BulkAction.MOVE ? counts[1] : counts[0];
+            return new BulkOperationResult(action, true, counts[0], affected, 0, elapsedMillis(start),
+                    Set.of(), Map.of());
+        }
+
+        long matched = 0;
+        long affected = 0;
+        int chunks = 0;
+        Set<Long> buildIds = new LinkedHashSet<>();
+        Map<TestCase.Status, Long> statusDeltas = new EnumMap<>(TestCase.Status.class);
+        long cursor = 0;
+        while (true) {
+            long after = cursor;
+            Chunk chunk = transactionTemplate.execute(tx -> applyChunk(action, request, filter, after));
+            if (chunk.matched() == 0) {
+                break;
+            }
+            matched += chunk.matched();
+            affected += chunk.affected();
+            chunks++;
+            buildIds.addAll(chunk.buildIds());
+            chunk.statusDeltas().forEach((status, delta) -> statusDeltas.merge(status, delta, Long::sum));
+            listener.onChunkCommitted(chunk.buildIds(), chunk.statusDeltas(), chunk.flakinessChanged());
+            if (chunk.matched() < chunkSize) {
+                break;
+            }
+            cursor = chunk.lastId();
+        }
+        return new BulkOperationResult(action, false, matched, affected, chunks, elapsedMillis(start),
+                buildIds, statusDeltas);
+    }
+
+    private Chunk applyChunk(BulkAction action, BulkTestCaseRequest request, Filter filter, long after) {
+        List<Object> args = filter.args(after);
+        args.add(chunkSize);
+        List<Row> rows = jdbcTemplate.query(SELECT_SQL + filter.sql() + CHUNK_SUFFIX, (rs, rowNum) -> {
+            long buildIdValue = rs.getLong("build_id");
+            Long buildId = rs.wasNull() ? null : buildIdValue;
+            String status = rs.getString("status");
+            double durationValue = rs.getDouble("duration");
+            Double duration = rs.wasNull() ? null : durationValue;
+            return new Row(rs.getLong("id"), rs.getLong("test_id"), buildId,
+                    status != null ? TestCase.Status.valueOf(status) : null, duration);
+        }, args.toArray());
+        if (rows.isEmpty()) {
+            return Chunk.EMPTY;
+        }
+        return switch (action) {
+            case STATUS -> changeStatus(rows, request.getTargetStatus());
+            case DELETE -> delete(rows);
+            case MOVE -> move(rows, request.getTargetBuildId());
+        };
+    }
+
+    private Chunk changeStatus(List<Row> rows, TestCase.Status target) {
+        updateIn(UPDATE_STATUS_PREFIX, target.name(), rows);
+
+        Map<TestCase.Status, Long> deltas = new EnumMap<>(TestCase.Status.class);
+        Map<Long, List<ResultEntry>> history = new HashMap<>();
+        for (Row row : rows) {
+            if (row.status() != null) {
+                deltas.merge(row.status(), -1L, Long::sum);
+            }
+            deltas.merge(target, 1L, Long::sum);
+            if (row.buildId() != null) {
+                history.computeIfAbsent(row.buildId(), buildId -> new ArrayList<>())
+                        .add(new ResultEntry(row.testId(), target, row.duration()));
+            }
+        }
+        Set<Long> flakinessChanged = new HashSet<>();
+        history.forEach((buildId, results) -> flakinessChanged.addAll(historyStore.recordResults(buildId, results)));
+        return new Chunk(rows.size(), rows.size(), lastId(rows), history.keySet(), deltas, flakinessChanged);
+    }
+
+    private Chunk delete(List<Row> rows) {
+        updateIn(DELETE_PREFIX, null, rows);
+
+        Map<TestCase.Status, Long> deltas = new EnumMap<>(TestCase.Status.class);
+        Map<Long, List<Long>> removed = new HashMap<>();
+        for (Row row : rows) {
+            if (row.status() != null) {
+                deltas.merge(row.status(), -1L, Long::sum);
+            }
+            if (row.buildId() != null) {
+                removed.computeIfAbsent(row.buildId(), buildId -> new ArrayList<>()).add(row.testId());
+            }
+        }
+        Set<Long> flakinessChanged = new HashSet<>();
+        removed.forEach((buildId, testIds) -> flakinessChanged.addAll(historyStore.removeResults(buildId, testIds)));
+        return new Chunk(rows.size(), rows.size(), lastId(rows), removed.keySet(), deltas, flakinessChanged);
+    }
+
+    private Chunk move(List<Row> rows, Long targetBuildId) {
+        // The filter already skips tests the target build has; this drops the
+        // second of two matched rows for the same test so the unique key holds.
+        Set<Long> testIds = new HashSet<>();
+        List<Row> moved = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            if (testIds.add(row.testId())) {
+                moved.add(row);
+            }
+        }
+        updateIn(UPDATE_BUILD_PREFIX, targetBuildId, moved);
+
+        Map<Long, List<Long>> removed = new HashMap<>();
+        List<ResultEntry> recorded = new ArrayList<>(moved.size());
+        for (Row row : moved) {
+            if (row.buildId() != null) {
+                removed.computeIfAbsent(row.buildId(), buildId -> new ArrayList<>()).add(row.testId());
+            }
+            recorded.add(new ResultEntry(row.testId(), row.status(), row.duration()));
+        }
+        Set<Long> flakinessChanged = new HashSet<>();
+        removed.forEach((buildId, testIds) -> flakinessChanged.addAll(historyStore.removeResults(buildId, testIds)));
+        flakinessChanged.addAll(historyStore.recordResults(targetBuildId, recorded));
+
+        Set<Long> buildIds = new HashSet<>(removed.keySet());
+        buildIds.add(targetBuildId);
+        return new Chunk(rows.size(), moved.size(), lastId(rows), buildIds, Map.of(), flakinessChanged);
+    }
+
+    private void updateIn(String prefix, Object value, List<Row> rows) {
+        List<Object> args = new ArrayList<>(rows.size() + 1);
+        if (value != null) {
+            args.add(value);
+        }
+        for (Row row : rows) {
+            args.add(row.id());
+        }
+        jdbcTemplate.update(prefix + placeholders(rows.size()) + ")", args.toArray());
+    }
+
+    private Filter filter(BulkAction action, BulkTestCaseRequest request) {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (!hasIds && request.getBuildId() == null && request.getStatus() == null && request.getModule() == null) {
+            throw new RuntimeException("At least one filter is required");
+        }
+        if (hasIds && request.getIds().size() > maxIds) {
+            throw new RuntimeException("At most " + maxIds + " ids are allowed per request");
+        }
+
+        StringBuilder sql = new StringBuilder(FROM_SQL);
+        if (request.getModule() != null) {
+            sql.append(JOIN_DEFINITIONS_SQL);
+        }
+        sql.append(" WHERE t.id > ?");
+        List<Object> args = new ArrayList<>();
+        if (hasIds) {
+            sql.append(" AND t.id IN (").append(placeholders(request.getIds().size())).append(')');
+            args.addAll(request.getIds());
+        }
+        if (request.getBuildId() != null) {
+            sql.append(" AND t.build_id = ?");
+            args.add(request.getBuildId());
+        }
+        if (request.getStatus() != null) {
+            sql.append(" AND t.status = ?");
+            args.add(request.getStatus().name());
+        }
+        if (request.getModule() != null) {
+            sql.append(" AND d.module = ?");
+            args.add(request.getModule());
+        }
+        switch (action) {
+            case STATUS -> {
+                if (request.getTargetStatus() == null) {
+                    throw new RuntimeException("Target status is required");
+                }
+                sql.append(" AND (t.status IS NULL OR t.status <> ?)");
+                args.add(request.getTargetStatus().name());
+            }
+            case MOVE -> {
+                if (request.getTargetBuildId() == null) {
+                    throw new RuntimeException("Target build is required");
+                }
+                sql.append(" AND (t.build_id IS NULL OR t.build_id <> ?)")
+                        .append(" AND NOT EXISTS (SELECT 1 FROM test_cases x WHERE x.build_id = ? AND x.test_id = t.test_id)");
+                args.add(request.getTargetBuildId());
+                args.add(request.getTargetBuildId());
+            }
+            case DELETE -> {
+            }
+        }
+        return new Filter(sql.toString(), args);
+    }
+
+    private static long lastId(List<Row> rows) {
+        return rows.get(rows.size() - 1).id();
+    }
+
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static String placeholders(int count) {
+        StringBuilder sql = new StringBuilder(count * 3);
+        for (int i = 0; i < count; i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        return sql.toString();
+    }
+
+    private record Filter(String sql, List<Object> args) {
+        List<Object> args(long after) {
+            List<Object> bound = new ArrayList<>(args.size() + 2);
+            bound.add(after);
+            bound.addAll(args);
+            return bound;
+        }
+    }
+
+    private record Row(long id, long testId, Long buildId, TestCase.Status status, Double duration) {
+    }
+
+    private record Chunk(int matched, int affected, long lastId, Set<Long> buildIds,
+                         Map<TestCase.Status, Long> statusDeltas, Set<Long> flakinessChanged) {
+        static final Chunk EMPTY = new Chunk(0, 0, 0, Set.of(), Map.of(), Set.of());
+    }
+}
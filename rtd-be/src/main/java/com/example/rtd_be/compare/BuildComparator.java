@@ -0,0 +1,148 @@
+package com.example.rtd_be.compare;
+
+import com.example.rtd_be.analytics.BuildResults;
+import com.example.rtd_be.dto.BuildComparisonResult;
+import com.example.rtd_be.dto.ComparisonRow;
+import com.example.rtd_be.dto.StatusChange;
+import com.example.rtd_be.model.TestCase;
+import org.springframework.stereotype.Component;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Component
+public class BuildComparator {
+
+    private static final String MISSING = "N/A";
+    private static final Comparator<String> BY_MODULE = Comparator.nullsFirst(Comparator.naturalOrder());
+    private static final Comparator<ComparisonRow> BY_TEST =
+            Comparator.comparing(ComparisonRow::name).thenComparing(ComparisonRow::module, BY_MODULE);
+
+    private static final int STATUS_SLOTS = TestCase.Status.values().length + 1;
+    private static final StatusChange[] TRANSITIONS = buildTransitions();
+
+    /**
+     * Merge-joins two builds' rows by test, that is by name and module, and
+     * emits one result per test. Both lists are sorted in place; rows already
+     * ordered by the query make this a linear pass.
+     */
+    public void compare(List<ComparisonRow> build1, List<ComparisonRow> build2, boolean changesOnly,
+                        Consumer<BuildComparisonResult> out) {
+        build1.sort(BY_TEST);
+        build2.sort(BY_TEST);
+
+        int i = 0;
+        int j = 0;
+        while (i < build1.size() || j < build2.size()) {
+            ComparisonRow left = i < build1.size() ? build1.get(i) : null;
+            ComparisonRow right = j < build2.size() ? build2.get(j) : null;
+
+            int cmp;
+            if (left == null) {
+                cmp = 1;
+            } else if (right == null) {
+                cmp = -1;
+            } else {
+                cmp = BY_TEST.compare(left, right);
+            }
+
+            if (cmp < 0) {
+                emit(left, null, changesOnly, out);
+                i++;
+            } else if (cmp > 0) {
+                emit(null, right, changesOnly, out);
+                j++;
+            } else {
+                emit(left, right, changesOnly, out);
+                i++;
+                j++;
+            }
+        }
+    }
+
+    /**
+     * Same merge join over two cached columnar builds, which are already
+     * ordered by name and module. Builds sharing dictionaries match on equal
+     * ids without comparing the strings.
+     */
+    public void compare(BuildResults build1, BuildResults build2, boolean changesOnly,
+                        Consumer<BuildComparisonResult> out) {
+        boolean sharedDictionaries = build1.sharesDictionariesWith(build2);
+        int size1 = build1.size();
+        int size2 = build2.size();
+        int i = 0;
+        int j = 0;
+        while (i < size1 || j < size2) {
+            int cmp;
+            if (i == size1) {
+                cmp = 1;
+            } else if (j == size2) {
+                cmp = -1;
+            } else if (sharedDictionaries && build1.nameId(i) == build2.nameId(j)
+                    && build1.moduleId(i) == build2.moduleId(j)) {
+                cmp = 0;
+            } else {
+                cmp = compareTests(build1.name(i), build1.module(i), build2.name(j), build2.module(j));
+            }
+
+            if (cmp < 0) {
+                emit(build1.name(i), build1.module(i), build1.status(i), null, build1.duration(i), null,
+                        changesOnly, out);
+                i++;
+            } else if (cmp > 0) {
+                emit(build2.name(j), build2.module(j), null, build2.status(j), null, build2.duration(j),
+                        changesOnly, out);
+                j++;
+            } else {
+                emit(build1.name(i), build1.module(i), build1.status(i), build2.status(j), build1.duration(i),
+                        build2.duration(j), changesOnly, out);
+                i++;
+                j++;
+            }
+        }
+    }
+
+    private void emit(ComparisonRow left, ComparisonRow right, boolean changesOnly,
+                      Consumer<BuildComparisonResult> out) {
+        ComparisonRow row = left != null ? left : right;
+        emit(row.name(), row.module(), left != null ? left.status() : null, right != null ? right.status() : null,
+                left != null ? left.duration() : null, right != null ? right.duration() : null, changesOnly, out);
+    }
+
+    private void emit(String name, String module, TestCase.Status status1, TestCase.Status status2,
+                      Double duration1, Double duration2, boolean changesOnly, Consumer<BuildComparisonResult> out) {
+        StatusChange change = TRANSITIONS[slot(status1) * STATUS_SLOTS + slot(status2)];
+        if (changesOnly && change == StatusChange.SAME) {
+            return;
+        }
+
+        Double durationChange = duration1 != null && duration2 != null ? duration2 - duration1 : null;
+        out.accept(new BuildComparisonResult(name, module, statusName(status1), statusName(status2),
+                duration1, duration2, change, durationChange, null, false, null));
+    }
+
+    private static int compareTests(String name1, String module1, String name2, String module2) {
+        int cmp = name1.compareTo(name2);
+        return cmp != 0 ? cmp : BY_MODULE.compare(module1, module2);
+    }
+
+    private static int slot(TestCase.Status status) {
+        return status == null ? 0 : status.ordinal() + 1;
+    }
+
+    private static String statusName(TestCase.Status status) {
+        return status == null ? MISSING : status.name();
+    }
+
+    private static StatusChange[] buildTransitions() {
+        StatusChange[] transitions = new StatusChange[STATUS_SLOTS * STATUS_SLOTS];
+        for (int from = 0; from < STATUS_SLOTS; from++) {
+            for (int to = 0; to < STATUS_SLOTS; to++) {
+                transitions[from * STATUS_SLOTS + to] = from == to ? StatusChange.SAME : StatusChange.CHANGED;
+            }
+        }
+        transitions[slot(TestCase.Status.PASS) * STATUS_SLOTS + slot(TestCase.Status.FAIL)] = StatusChange.REGRESSION;
+        transitions[slot(TestCase.Status.FAIL) * STATUS_SLOTS + slot(TestCase.Status.PASS)] = StatusChange.FIXED;
+        return transitions;
+    }
+}
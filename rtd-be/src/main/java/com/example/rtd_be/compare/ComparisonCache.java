@@ -0,0 +1,181 @@
+package com.example.rtd_be.compare;
+
+import com.example.rtd_be.dto.BuildComparisonResult;
+import com.example.rtd_be.dto.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+@Component
+public class ComparisonCache {
+
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+    private static final long RESULT_OVERHEAD_BYTES = 120;
+
+    private final long maxBytes;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, Long> buildVersions = new HashMap<>();
+    private long generation;
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public ComparisonCache(MeterRegistry meterRegistry,
+                           @Value("${app.compare-cache.max-size:256MB}") DataSize maxSize) {
+        this.maxBytes = maxSize.toBytes();
+        FunctionCounter.builder("rtd.compare.cache.gets", this, cache -> cache.stats().getHits())
+                .description("Build comparisons served from the cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("rtd.compare.cache.gets", this, cache -> cache.stats().getMisses())
+                .description("Build comparisons computed because they were not cached")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("rtd.compare.cache.evictions", this, cache -> cache.stats().getEvictions())
+                .description("Comparisons evicted to stay within the cache budget")
+                .register(meterRegistry);
+        Gauge.builder("rtd.compare.cache.entries", this, cache -> cache.stats().getEntries())
+                .description("Build comparisons held in the cache")
+                .register(meterRegistry);
+        Gauge.builder("rtd.compare.cache.size", this, cache -> cache.stats().getBytes())
+                .description("Estimated memory used by cached comparisons")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public List<BuildComparisonResult> get(Long build1Id, Long build2Id, Supplier<List<BuildComparisonResult>> loader) {
+        Key key = new Key(build1Id, build2Id);
+        long version1;
+        long version2;
+        long loadGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                hits++;
+                return entry.results();
+            }
+            misses++;
+            version1 = buildVersions.getOrDefault(build1Id, 0L);
+            version2 = buildVersions.getOrDefault(build2Id, 0L);
+            loadGeneration = generation;
+        }
+
+        List<BuildComparisonResult> results = Collections.unmodifiableList(loader.get());
+        long size = estimateSize(results);
+
+        synchronized (this) {
+            boolean unchanged = generation == loadGeneration
+                    && buildVersions.getOrDefault(build1Id, 0L) == version1
+                    && buildVersions.getOrDefault(build2Id, 0L) == version2;
+            if (unchanged && size <= maxBytes) {
+                Entry previous = entries.put(key, new Entry(results, size));
+                if (previous != null) {
+                    bytes -= previous.bytes();
+                }
+                bytes += size;
+                evictToBudget();
+            }
+        }
+        return results;
+    }
+
+    /** Returns the cached comparison, or null without computing it. */
+    public synchronized List<BuildComparisonResult> getIfPresent(Long build1Id, Long build2Id) {
+        Entry entry = entries.get(new Key(build1Id, build2Id));
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.results();
+    }
+
+    public synchronized void invalidateBuild(Long buildId) {
+        if (buildId == null) {
+            return;
+        }
+        buildVersions.merge(buildId, 1L, Long::sum);
+        Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Key, Entry> entry = it.next();
+            if (entry.getKey().involves(buildId)) {
+                bytes -= entry.getValue().bytes();
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Drops the comparisons that list any of these tests, for changes that
+     * reach beyond the compared builds, such as a test's flip rate.
+     */
+    public synchronized void invalidateTests(Set<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        generation++;
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            for (BuildComparisonResult result : entry.results()) {
+                if (names.contains(result.getTestCaseName())) {
+                    bytes -= entry.bytes();
+                    it.remove();
+                    break;
+                }
+            }
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+        bytes = 0;
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits, misses, evictions, entries.size(), bytes, maxBytes);
+    }
+
+    private void evictToBudget() {
+        Iterator<Entry> it = entries.values().iterator();
+        while (bytes > maxBytes && it.hasNext()) {
+            bytes -= it.next().bytes();
+            it.remove();
+            evictions++;
+        }
+    }
+
+    private static long estimateSize(List<BuildComparisonResult> results) {
+        long size = ENTRY_OVERHEAD_BYTES + 8L * results.size();
+        for (BuildComparisonResult result : results) {
+            size += RESULT_OVERHEAD_BYTES + stringSize(result.getTestCaseName()) + stringSize(result.getModule());
+        }
+        return size;
+    }
+
+    private static long stringSize(String value) {
+        return value == null ? 0 : 40 + value.length();
+    }
+
+    private record Key(Long build1Id, Long build2Id) {
+        boolean involves(Long buildId) {
+            return buildId.equals(build1Id) || buildId.equals(build2Id);
+        }
+    }
+
+    private record Entry(List<BuildComparisonResult> results, long bytes) {
+    }
+}
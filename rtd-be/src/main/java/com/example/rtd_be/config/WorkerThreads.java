@@ -0,0 +1,40 @@
+package com.example.rtd_be.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread factories for the application's own executors. When
+ * spring.threads.virtual.enabled is set and the JVM supports it, threads that
+ * spend their time blocked on JDBC or socket writes are virtual; CPU-bound
+ * work always stays on platform threads.
+ */
+@Component
+public class WorkerThreads {
+
+    private final boolean virtual;
+
+    public WorkerThreads(@Value("${spring.threads.virtual.enabled:false}") boolean virtualEnabled) {
+        this.virtual = virtualEnabled && Runtime.version().feature() >= 21;
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public ThreadFactory blocking(String prefix) {
+        return virtual ? new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory() : platform(prefix);
+    }
+
+    public ThreadFactory platform(String prefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,13 +1,14 @@
 package com.example.rtd_be.controller;
 
 import com.example.rtd_be.dto.BuildRequest;
+import com.example.rtd_be.dto.CursorPage;
+import com.example.rtd_be.dto.CursorRequest;
 import com.example.rtd_be.model.Build;
 import com.example.rtd_be.service.BuildService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/builds")
@@ -17,8 +18,8 @@ public class BuildController {
     private final BuildService buildService;
     
     @GetMapping
-    public ResponseEntity<List<Build>> getAllBuilds() {
-        return ResponseEntity.ok(buildService.getAllBuilds());
+    public ResponseEntity<CursorPage<Build>> getAllBuilds(CursorRequest page) {
+        return ResponseEntity.ok(buildService.getAllBuilds(page));
     }
     
     @GetMapping("/{id}")
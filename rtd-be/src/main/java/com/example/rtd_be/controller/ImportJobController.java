@@ -0,0 +1,20 @@
+package com.example.rtd_be.controller;
+
+import com.example.rtd_be.dto.ImportJob;
+import com.example.rtd_be.service.ImportJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/imports")
+@RequiredArgsConstructor
+public class ImportJobController {
+
+    private final ImportJobService importJobService;
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJob> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(importJobService.getJob(jobId));
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.rtd_be.controller;
+
+import com.example.rtd_be.live.LiveEventBroadcaster;
+import com.example.rtd_be.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/live")
+@RequiredArgsConstructor
+public class LiveController {
+    
+    private final LiveEventBroadcaster liveEventBroadcaster;
+    private final DashboardService dashboardService;
+    
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe() {
+        SseEmitter emitter = liveEventBroadcaster.subscribe(dashboardService.getStats());
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.rtd_be.controller;
 
+import com.example.rtd_be.dto.CursorPage;
+import com.example.rtd_be.dto.CursorRequest;
+import com.example.rtd_be.dto.RegressionRunSummary;
 import com.example.rtd_be.model.RegressionRun;
 import com.example.rtd_be.service.RegressionRunService;
 import lombok.RequiredArgsConstructor;
@@ -16,18 +19,23 @@ public class RegressionRunController {
     private final RegressionRunService regressionRunService;
     
     @GetMapping
-    public ResponseEntity<List<RegressionRun>> getAllRuns() {
-        return ResponseEntity.ok(regressionRunService.getAllRuns());
+    public ResponseEntity<CursorPage<RegressionRunSummary>> getAllRuns(CursorRequest page) {
+        return ResponseEntity.ok(regressionRunService.getAllRuns(page));
+    }
+    
+    @GetMapping("/{id}")
+    public ResponseEntity<RegressionRun> getRunById(@PathVariable Long id) {
+        return ResponseEntity.ok(regressionRunService.getRunById(id));
     }
     
     @GetMapping("/build/{buildId}")
-    public ResponseEntity<List<RegressionRun>> getRunsByBuild(@PathVariable Long buildId) {
+    public ResponseEntity<List<RegressionRunSummary>> getRunsByBuild(@PathVariable Long buildId) {
         return ResponseEntity.ok(regressionRunService.getRunsByBuild(buildId));
     }
     
     @PostMapping("/execute/{buildId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'TESTER')")
-    public ResponseEntity<RegressionRun> executeRun(@PathVariable Long buildId) {
+    public ResponseEntity<RegressionRunSummary> executeRun(@PathVariable Long buildId) {
         return ResponseEntity.ok(regressionRunService.executeRegressionRun(buildId));
     }
 }
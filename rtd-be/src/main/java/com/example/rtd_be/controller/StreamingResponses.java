@@ -0,0 +1,49 @@
+package com.example.rtd_be.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+final class StreamingResponses {
+
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private StreamingResponses() {
+    }
+
+    static <T> ResponseEntity<StreamingResponseBody> jsonArray(ObjectMapper mapper, Consumer<Consumer<T>> producer) {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+                generator.writeStartArray();
+                producer.accept(value -> write(generator, value));
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    static <T> ResponseEntity<StreamingResponseBody> ndjson(ObjectMapper mapper, Consumer<Consumer<T>> producer) {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(new SerializedString("\n"));
+                producer.accept(value -> write(generator, value));
+                generator.writeRaw('\n');
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE)).body(body);
+    }
+
+    private static void write(JsonGenerator generator, Object value) {
+        try {
+            generator.writeObject(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
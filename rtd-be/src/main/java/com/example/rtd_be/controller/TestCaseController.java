@@ -1,14 +1,29 @@
 package com.example.rtd_be.controller;
 
 import com.example.rtd_be.dto.TestCaseRequest;
+import com.example.rtd_be.bulk.BulkAction;
 import com.example.rtd_be.dto.BuildComparisonResult;
+import com.example.rtd_be.dto.BulkOperationResult;
+import com.example.rtd_be.dto.BulkTestCaseRequest;
+import com.example.rtd_be.dto.CursorPage;
+import com.example.rtd_be.dto.CursorRequest;
+import com.example.rtd_be.dto.DurationRegression;
+import com.example.rtd_be.dto.FlakyTest;
+import com.example.rtd_be.dto.ImportJob;
+import com.example.rtd_be.dto.TestCaseSummary;
+import com.example.rtd_be.dto.TestHistory;
+import com.example.rtd_be.importer.ImportMode;
 import com.example.rtd_be.model.TestCase;
+import com.example.rtd_be.service.ImportJobService;
 import com.example.rtd_be.service.TestCaseService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
 
 @RestController
@@ -17,15 +32,48 @@ import java.util.List;
 public class TestCaseController {
     
     private final TestCaseService testCaseService;
+    private final ImportJobService importJobService;
+    private final ObjectMapper objectMapper;
     
     @GetMapping
-    public ResponseEntity<List<TestCase>> getAllTestCases() {
-        return ResponseEntity.ok(testCaseService.getAllTestCases());
+    public ResponseEntity<CursorPage<TestCaseSummary>> getAllTestCases(CursorRequest page) {
+        return ResponseEntity.ok(testCaseService.getAllTestCases(page));
     }
     
     @GetMapping("/build/{buildId}")
-    public ResponseEntity<List<TestCase>> getTestCasesByBuild(@PathVariable Long buildId) {
-        return ResponseEntity.ok(testCaseService.getTestCasesByBuild(buildId));
+    public ResponseEntity<CursorPage<TestCaseSummary>> getTestCasesByBuild(@PathVariable Long buildId, CursorRequest page) {
+        return ResponseEntity.ok(testCaseService.getTestCasesByBuild(buildId, page));
+    }
+    
+    @GetMapping(value = "/build/{buildId}", params = "stream=true", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTestCasesByBuild(@PathVariable Long buildId) {
+        return StreamingResponses.<TestCaseSummary>jsonArray(objectMapper,
+                consumer -> testCaseService.streamTestCasesByBuild(buildId, consumer));
+    }
+    
+    @GetMapping(value = "/build/{buildId}", produces = StreamingResponses.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTestCasesByBuildNdjson(@PathVariable Long buildId) {
+        return StreamingResponses.<TestCaseSummary>ndjson(objectMapper,
+                consumer -> testCaseService.streamTestCasesByBuild(buildId, consumer));
+    }
+    
+    @GetMapping("/flaky")
+    public ResponseEntity<List<FlakyTest>> getFlakyTests(@RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(testCaseService.getFlakyTests(limit));
+    }
+    
+    @GetMapping("/history")
+    public ResponseEntity<TestHistory> getTestHistory(
+            @RequestParam String name,
+            @RequestParam(required = false) String module,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "200") int limit) {
+        return ResponseEntity.ok(testCaseService.getTestHistory(name, module, before, limit));
+    }
+    
+    @GetMapping("/build/{buildId}/duration-regressions")
+    public ResponseEntity<List<DurationRegression>> getDurationRegressions(@PathVariable Long buildId) {
+        return ResponseEntity.ok(testCaseService.getDurationRegressions(buildId));
     }
     
     @GetMapping("/{id}")
@@ -52,18 +100,47 @@ public class TestCaseController {
         return ResponseEntity.ok().build();
     }
     
+    @PostMapping("/bulk/status")
+    @PreAuthorize("hasAnyRole('ADMIN', 'TESTER')")
+    public ResponseEntity<BulkOperationResult> bulkUpdateStatus(@RequestBody BulkTestCaseRequest request) {
+        return ResponseEntity.ok(testCaseService.bulkUpdate(BulkAction.STATUS, request));
+    }
+    
+    @PostMapping("/bulk/delete")
+    @PreAuthorize("hasAnyRole('ADMIN', 'TESTER')")
+    public ResponseEntity<BulkOperationResult> bulkDelete(@RequestBody BulkTestCaseRequest request) {
+        return ResponseEntity.ok(testCaseService.bulkUpdate(BulkAction.DELETE, request));
+    }
+    
+    @PostMapping("/bulk/move")
+    @PreAuthorize("hasAnyRole('ADMIN', 'TESTER')")
+    public ResponseEntity<BulkOperationResult> bulkMove(@RequestBody BulkTestCaseRequest request) {
+        return ResponseEntity.ok(testCaseService.bulkUpdate(BulkAction.MOVE, request));
+    }
+    
     @PostMapping("/import/{buildId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'TESTER')")
-    public ResponseEntity<List<TestCase>> importTestResults(
+    public ResponseEntity<ImportJob> importTestResults(
             @PathVariable Long buildId,
-            @RequestParam("file") MultipartFile file) {
-        return ResponseEntity.ok(testCaseService.importTestResults(buildId, file));
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "UPSERT") ImportMode mode) {
+        return ResponseEntity.accepted().body(importJobService.submit(buildId, file, mode));
     }
     
     @GetMapping("/compare")
     public ResponseEntity<List<BuildComparisonResult>> compareBuilds(
             @RequestParam Long build1Id,
-            @RequestParam Long build2Id) {
-        return ResponseEntity.ok(testCaseService.compareBuilds(build1Id, build2Id));
+            @RequestParam Long build2Id,
+            @RequestParam(defaultValue = "false") boolean changesOnly) {
+        return ResponseEntity.ok(testCaseService.compareBuilds(build1Id, build2Id, changesOnly));
+    }
+    
+    @GetMapping(value = "/compare", produces = StreamingResponses.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> compareBuildsNdjson(
+            @RequestParam Long build1Id,
+            @RequestParam Long build2Id,
+            @RequestParam(defaultValue = "false") boolean changesOnly) {
+        return StreamingResponses.<BuildComparisonResult>ndjson(objectMapper,
+                consumer -> testCaseService.streamComparison(build1Id, build2Id, changesOnly, consumer));
     }
 }
@@ -1,5 +1,7 @@
 package com.example.rtd_be.controller;
 
+import com.example.rtd_be.dto.CursorPage;
+import com.example.rtd_be.dto.CursorRequest;
 import com.example.rtd_be.dto.RegisterRequest;
 import com.example.rtd_be.model.User;
 import com.example.rtd_be.service.UserService;
@@ -7,7 +9,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/users")
@@ -18,8 +19,8 @@ public class UserController {
     private final UserService userService;
     
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    public ResponseEntity<CursorPage<User>> getAllUsers(CursorRequest page) {
+        return ResponseEntity.ok(userService.getAllUsers(page));
     }
     
     @GetMapping("/{id}")
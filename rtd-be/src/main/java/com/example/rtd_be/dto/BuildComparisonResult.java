@@ -12,6 +12,9 @@ public class BuildComparisonResult {
     private String build2Status;
     private Double build1Duration;
     private Double build2Duration;
-    private String statusChange;
+    private StatusChange statusChange;
     private Double durationChange;
+    private Double flakiness;
+    private boolean flaky;
+    private Double durationSigmas;
 }
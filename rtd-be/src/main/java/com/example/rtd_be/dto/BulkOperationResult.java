@@ -0,0 +1,21 @@
+package com.example.rtd_be.dto;
+
+import com.example.rtd_be.bulk.BulkAction;
+import com.example.rtd_be.model.TestCase;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.util.Map;
+import java.util.Set;
+
+@Data
+@AllArgsConstructor
+public class BulkOperationResult {
+    private BulkAction action;
+    private boolean dryRun;
+    private long matched;
+    private long affected;
+    private int chunksCommitted;
+    private long durationMillis;
+    private Set<Long> buildIds;
+    private Map<TestCase.Status, Long> statusDeltas;
+}
@@ -0,0 +1,16 @@
+package com.example.rtd_be.dto;
+
+import com.example.rtd_be.model.TestCase;
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class BulkTestCaseRequest {
+    private List<Long> ids;
+    private Long buildId;
+    private TestCase.Status status;
+    private String module;
+    private TestCase.Status targetStatus;
+    private Long targetBuildId;
+    private boolean dryRun;
+}
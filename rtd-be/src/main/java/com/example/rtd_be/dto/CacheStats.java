@@ -0,0 +1,15 @@
+package com.example.rtd_be.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CacheStats {
+    private long hits;
+    private long misses;
+    private long evictions;
+    private int entries;
+    private long bytes;
+    private long maxBytes;
+}
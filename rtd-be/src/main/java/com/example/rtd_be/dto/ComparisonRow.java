@@ -0,0 +1,6 @@
+package com.example.rtd_be.dto;
+
+import com.example.rtd_be.model.TestCase;
+
+public record ComparisonRow(String name, String module, TestCase.Status status, Double duration) {
+}
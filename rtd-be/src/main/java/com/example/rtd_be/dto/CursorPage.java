@@ -0,0 +1,24 @@
+package com.example.rtd_be.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.data.domain.Slice;
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private int size;
+    private boolean hasNext;
+    private Long nextCursor;
+
+    public static <T> CursorPage<T> of(Slice<T> slice, Function<T, Long> idExtractor) {
+        List<T> items = slice.getContent();
+        Long nextCursor = slice.hasNext() && !items.isEmpty()
+                ? idExtractor.apply(items.get(items.size() - 1))
+                : null;
+        return new CursorPage<>(items, items.size(), slice.hasNext(), nextCursor);
+    }
+}
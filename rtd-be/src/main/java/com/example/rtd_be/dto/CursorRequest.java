@@ -0,0 +1,32 @@
+package com.example.rtd_be.dto;
+
+import lombok.Data;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+@Data
+public class CursorRequest {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private Long after;
+    private Integer size;
+    private String direction;
+
+    public boolean isAscending() {
+        return direction == null || Sort.Direction.fromString(direction).isAscending();
+    }
+
+    public long cursor() {
+        if (after != null) {
+            return after;
+        }
+        return isAscending() ? 0L : Long.MAX_VALUE;
+    }
+
+    public Pageable toPageable() {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return PageRequest.of(0, pageSize, Sort.by(isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC, "id"));
+    }
+}
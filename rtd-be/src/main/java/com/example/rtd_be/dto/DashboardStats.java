@@ -2,6 +2,7 @@ package com.example.rtd_be.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import java.time.LocalDateTime;
 
 @Data
 @AllArgsConstructor
@@ -10,5 +11,8 @@ public class DashboardStats {
     private long totalTestCases;
     private long passedTests;
     private long failedTests;
+    private long blockedTests;
+    private long pendingTests;
     private double passPercentage;
+    private LocalDateTime snapshotAt;
 }
@@ -0,0 +1,16 @@
+package com.example.rtd_be.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class DurationRegression {
+    private String name;
+    private String module;
+    private double duration;
+    private double baselineMean;
+    private double baselineStdDev;
+    private long baselineSamples;
+    private double sigmas;
+}
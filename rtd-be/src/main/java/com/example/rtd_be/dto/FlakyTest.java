@@ -0,0 +1,15 @@
+package com.example.rtd_be.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class FlakyTest {
+    private String name;
+    private String module;
+    private double flipRate;
+    private int flips;
+    private int builds;
+    private Long lastBuildId;
+}
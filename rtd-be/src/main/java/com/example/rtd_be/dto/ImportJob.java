@@ -0,0 +1,35 @@
+package com.example.rtd_be.dto;
+
+import com.example.rtd_be.importer.ImportMode;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Data;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+@Data
+public class ImportJob {
+    private final String jobId;
+    private final Long buildId;
+    private final String filename;
+    private final ImportMode mode;
+    @JsonIgnore
+    private final Path spoolFile;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile long rowsProcessed;
+    private volatile long rowsRejected;
+    private volatile double rowsPerSecond;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile ImportSummary summary;
+    private volatile String error;
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.rtd_be.dto;
+
+import com.example.rtd_be.importer.ImportMode;
+import com.example.rtd_be.model.TestCase;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.util.Map;
+import java.util.Set;
+
+@Data
+@AllArgsConstructor
+public class ImportSummary {
+    private Long buildId;
+    private ImportMode mode;
+    private long rowsImported;
+    private long rowsInserted;
+    private long rowsUpdated;
+    private long rowsUnchanged;
+    private long rowsDuplicate;
+    private long rowsRejected;
+    private int batchesCommitted;
+    private long durationMillis;
+    private double rowsPerSecond;
+    private Map<TestCase.Status, Long> statusDeltas;
+    @JsonIgnore
+    private Set<Long> flakinessChanged;
+}
@@ -0,0 +1,10 @@
+package com.example.rtd_be.dto;
+
+import com.example.rtd_be.model.TestCase;
+
+public interface ModuleStatusCount {
+    String getModule();
+    TestCase.Status getStatus();
+    long getCount();
+    Double getTotalDuration();
+}
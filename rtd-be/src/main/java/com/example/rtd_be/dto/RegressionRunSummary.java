@@ -0,0 +1,15 @@
+package com.example.rtd_be.dto;
+
+import com.example.rtd_be.model.RegressionRun;
+import java.time.LocalDateTime;
+
+public record RegressionRunSummary(Long id, Long buildId, String buildVersion, Integer totalTests, Integer passed,
+                                   Integer failed, Integer blocked, Integer pending, Double totalDuration,
+                                   LocalDateTime executedAt) {
+
+    public static RegressionRunSummary of(RegressionRun run) {
+        return new RegressionRunSummary(run.getId(), run.getBuild().getId(), run.getBuild().getVersion(),
+                run.getTotalTests(), run.getPassed(), run.getFailed(), run.getBlocked(), run.getPending(),
+                run.getTotalDuration(), run.getExecutedAt());
+    }
+}
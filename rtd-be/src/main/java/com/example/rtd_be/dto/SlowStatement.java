@@ -0,0 +1,13 @@
+package com.example.rtd_be.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SlowStatement {
+    private String sql;
+    private long count;
+    private long maxMillis;
+    private long totalMillis;
+}
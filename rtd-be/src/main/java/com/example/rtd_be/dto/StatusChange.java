@@ -0,0 +1,5 @@
+package com.example.rtd_be.dto;
+
+public enum StatusChange {
+    SAME, REGRESSION, FIXED, CHANGED
+}
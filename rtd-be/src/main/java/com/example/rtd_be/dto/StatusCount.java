@@ -0,0 +1,8 @@
+package com.example.rtd_be.dto;
+
+import com.example.rtd_be.model.TestCase;
+
+public interface StatusCount {
+    TestCase.Status getStatus();
+    long getCount();
+}
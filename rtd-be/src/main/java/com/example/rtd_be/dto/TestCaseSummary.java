@@ -0,0 +1,32 @@
+package com.example.rtd_be.dto;
+
+import com.example.rtd_be.model.TestCase;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class TestCaseSummary {
+    private Long id;
+    private String name;
+    private String description;
+    private String module;
+    private Double duration;
+    private TestCase.Status status;
+    private Long buildId;
+    private String buildVersion;
+    private Double flakiness;
+    private boolean flaky;
+
+    public TestCaseSummary(Long id, String name, String description, String module, Double duration,
+                           TestCase.Status status, Long buildId, String buildVersion) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.module = module;
+        this.duration = duration;
+        this.status = status;
+        this.buildId = buildId;
+        this.buildVersion = buildVersion;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.rtd_be.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class TestHistory {
+    private Long testId;
+    private String name;
+    private String module;
+    private List<TestHistoryPoint> points;
+    private Long nextCursor;
+}
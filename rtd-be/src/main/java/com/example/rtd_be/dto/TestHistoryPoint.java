@@ -0,0 +1,16 @@
+package com.example.rtd_be.dto;
+
+import com.example.rtd_be.model.TestCase;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class TestHistoryPoint {
+    private Long buildId;
+    private String buildVersion;
+    private TestCase.Status status;
+    private Double duration;
+    private LocalDateTime recordedAt;
+}
@@ -0,0 +1,180 @@
+package com.example.rtd_be.history;
+
+import com.example.rtd_be.dto.DurationRegression;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class DurationStatsTracker {
+
+    private static final double MIN_STD_DEV = 0.001;
+
+    private static final String STATS_PREFIX =
+            "SELECT test_id, last_build_id, samples, mean, m2 FROM test_duration_stats WHERE test_id IN (";
+    private static final String SAVE_SQL =
+            "INSERT INTO test_duration_stats (test_id, last_build_id, samples, mean, m2, updated_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE last_build_id = VALUES(last_build_id),"
+                    + " samples = VALUES(samples), mean = VALUES(mean), m2 = VALUES(m2), updated_at = VALUES(updated_at)";
+    private static final String CLEAR_PREFIX =
+            "DELETE FROM duration_regressions WHERE build_id = ? AND test_id IN (";
+    private static final String FLAG_SQL =
+            "INSERT INTO duration_regressions"
+                    + " (build_id, test_id, duration, baseline_mean, baseline_std_dev, baseline_samples, z_score)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String REMOVE_RESULTS_PREFIX =
+            "DELETE FROM duration_regressions WHERE build_id = ? AND test_id IN (";
+    private static final String RECOMPUTE_PREFIX =
+            "INSERT INTO test_duration_stats (test_id, last_build_id, samples, mean, m2, updated_at)"
+                    + " SELECT test_id, MAX(build_id), COUNT(duration), AVG(duration),"
+                    + " VAR_POP(duration) * COUNT(duration), ? FROM test_results"
+                    + " WHERE duration IS NOT NULL AND test_id IN (";
+    private static final String RECOMPUTE_SUFFIX =
+            ") GROUP BY test_id ON DUPLICATE KEY UPDATE last_build_id = VALUES(last_build_id),"
+                    + " samples = VALUES(samples), mean = VALUES(mean), m2 = VALUES(m2), updated_at = VALUES(updated_at)";
+    private static final String DROP_EMPTY_PREFIX =
+            "DELETE FROM test_duration_stats WHERE test_id IN (";
+    private static final String DROP_EMPTY_SUFFIX =
+            ") AND NOT EXISTS (SELECT 1 FROM test_results r"
+                    + " WHERE r.test_id = test_duration_stats.test_id AND r.duration IS NOT NULL)";
+    private static final String REMOVE_BUILD_SQL =
+            "DELETE FROM duration_regressions WHERE build_id = ?";
+    private static final String REGRESSIONS_SQL =
+            "SELECT i.name, i.module, d.duration, d.baseline_mean, d.baseline_std_dev, d.baseline_samples, d.z_score"
+                    + " FROM duration_regressions d JOIN test_definitions i ON i.id = d.test_id"
+                    + " WHERE d.build_id = ? ORDER BY d.z_score DESC";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final double sigma;
+    private final long minSamples;
+    private final double minIncrease;
+
+    public DurationStatsTracker(JdbcTemplate jdbcTemplate,
+                                @Value("${app.duration.sigma:3}") double sigma,
+                                @Value("${app.duration.min-samples:5}") long minSamples,
+                                @Value("${app.duration.min-increase:0.1}") double minIncrease) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sigma = sigma;
+        this.minSamples = Math.max(minSamples, 2);
+        this.minIncrease = minIncrease;
+    }
+
+    /**
+     * Checks each duration against the test's baseline before folding it in, so
+     * a slow run is judged against the builds before it. Only results for a
+     * build newer than the last one folded in are added to the statistics;
+     * re-imports are re-checked but not counted twice.
+     */
+    void update(Long buildId, Map<Long, Double> durations) {
+        if (durations.isEmpty()) {
+            return;
+        }
+        String in = placeholders(durations.size());
+        List<Object> ids = new ArrayList<>(durations.keySet());
+
+        Map<Long, Stats> stats = new HashMap<>();
+        jdbcTemplate.query(STATS_PREFIX + in + ") FOR UPDATE", rs -> {
+            stats.put(rs.getLong("test_id"), new Stats(rs.getLong("last_build_id"), rs.getLong("samples"),
+                    rs.getDouble("mean"), rs.getDouble("m2")));
+        }, ids.toArray());
+
+        List<Object[]> saves = new ArrayList<>();
+        List<Object[]> flags = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (Map.Entry<Long, Double> entry : durations.entrySet()) {
+            Long testId = entry.getKey();
+            double duration = entry.getValue();
+            Stats baseline = stats.getOrDefault(testId, Stats.EMPTY);
+
+            if (baseline.samples() >= minSamples && duration - baseline.mean() >= minIncrease) {
+                double stdDev = Math.max(baseline.stdDev(), MIN_STD_DEV);
+                double zScore = (duration - baseline.mean()) / stdDev;
+                if (zScore >= sigma) {
+                    flags.add(new Object[] { buildId, testId, duration, baseline.mean(), baseline.stdDev(),
+                            baseline.samples(), zScore });
+                }
+            }
+            if (buildId > baseline.lastBuildId()) {
+                Stats next = baseline.add(buildId, duration);
+                saves.add(new Object[] { testId, next.lastBuildId(), next.samples(), next.mean(), next.m2(), now });
+            }
+        }
+
+        List<Object> clearArgs = new ArrayList<>(ids.size() + 1);
+        clearArgs.add(buildId);
+        clearArgs.addAll(ids);
+        jdbcTemplate.update(CLEAR_PREFIX + in + ")", clearArgs.toArray());
+        if (!flags.isEmpty()) {
+            jdbcTemplate.batchUpdate(FLAG_SQL, flags);
+        }
+        if (!saves.isEmpty()) {
+            jdbcTemplate.batchUpdate(SAVE_SQL, saves);
+        }
+    }
+
+    /** Drops the build's regressions for these tests and recomputes their statistics. */
+    void removeResults(Long buildId, Collection<Long> testIds) {
+        List<Object> args = new ArrayList<>(testIds.size() + 1);
+        args.add(buildId);
+        args.addAll(testIds);
+        jdbcTemplate.update(REMOVE_RESULTS_PREFIX + placeholders(testIds.size()) + ")", args.toArray());
+        recompute(testIds);
+    }
+
+    /**
+     * Welford's running sums cannot tell which builds they hold, so once results
+     * have been removed from test_results the tests' statistics are computed
+     * again from the durations left; a test with none left loses its row.
+     */
+    void recompute(Collection<Long> testIds) {
+        if (testIds.isEmpty()) {
+            return;
+        }
+        String in = placeholders(testIds.size());
+        List<Object> args = new ArrayList<>(testIds.size() + 1);
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        args.addAll(testIds);
+        jdbcTemplate.update(RECOMPUTE_PREFIX + in + RECOMPUTE_SUFFIX, args.toArray());
+        jdbcTemplate.update(DROP_EMPTY_PREFIX + in + DROP_EMPTY_SUFFIX, testIds.toArray());
+    }
+
+    void removeBuild(Long buildId) {
+        jdbcTemplate.update(REMOVE_BUILD_SQL, buildId);
+    }
+
+    public List<DurationRegression> findRegressions(Long buildId) {
+        return jdbcTemplate.query(REGRESSIONS_SQL, (rs, rowNum) -> new DurationRegression(rs.getString("name"),
+                rs.getString("module"), rs.getDouble("duration"), rs.getDouble("baseline_mean"),
+                rs.getDouble("baseline_std_dev"), rs.getLong("baseline_samples"), rs.getDouble("z_score")), buildId);
+    }
+
+    private static String placeholders(int count) {
+        StringBuilder sql = new StringBuilder(count * 3);
+        for (int i = 0; i < count; i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        return sql.toString();
+    }
+
+    record Stats(long lastBuildId, long samples, double mean, double m2) {
+        static final Stats EMPTY = new Stats(0, 0, 0, 0);
+
+        double stdDev() {
+            return samples > 1 ? Math.sqrt(m2 / (samples - 1)) : 0;
+        }
+
+        Stats add(long buildId, double value) {
+            long count = samples + 1;
+            double delta = value - mean;
+            double nextMean = mean + delta / count;
+            return new Stats(buildId, count, nextMean, m2 + delta * (value - nextMean));
+        }
+    }
+}
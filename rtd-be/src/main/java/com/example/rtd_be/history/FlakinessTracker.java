@@ -0,0 +1,255 @@
+package com.example.rtd_be.history;
+
+import com.example.rtd_be.dto.FlakyTest;
+import com.example.rtd_be.model.TestCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@Component
+public class FlakinessTracker {
+
+    private static final String STATE_PREFIX =
+            "SELECT test_id, last_build_id, outcomes, observations FROM test_flakiness WHERE test_id IN (";
+    private static final String RECENT_PREFIX =
+            "SELECT test_id, build_id, status FROM ("
+                    + "SELECT test_id, build_id, status, ROW_NUMBER() OVER (PARTITION BY test_id ORDER BY build_id DESC) AS rn"
+                    + " FROM test_results WHERE status IN ('PASS', 'FAIL') AND test_id IN (";
+    private static final String RECENT_SUFFIX =
+            ")) recent WHERE rn <= ? ORDER BY test_id, build_id";
+    private static final String DELETE_PREFIX =
+            "DELETE FROM test_flakiness WHERE test_id IN (";
+    private static final String SAVE_SQL =
+            "INSERT INTO test_flakiness (test_id, last_build_id, outcomes, observations, flips, flip_rate, updated_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE last_build_id = VALUES(last_build_id),"
+                    + " outcomes = VALUES(outcomes), observations = VALUES(observations), flips = VALUES(flips),"
+                    + " flip_rate = VALUES(flip_rate), updated_at = VALUES(updated_at)";
+    private static final String BUILD_RATES_SQL =
+            "SELECT i.name, i.module, f.flip_rate FROM test_results r"
+                    + " JOIN test_flakiness f ON f.test_id = r.test_id"
+                    + " JOIN test_definitions i ON i.id = r.test_id"
+                    + " WHERE r.build_id = ? AND f.observations >= ? AND f.flip_rate > 0";
+    private static final String NAME_RATES_PREFIX =
+            "SELECT i.name, i.module, f.flip_rate FROM test_definitions i JOIN test_flakiness f ON f.test_id = i.id"
+                    + " WHERE f.observations >= ? AND f.flip_rate > 0 AND i.name IN (";
+    private static final String TOP_SQL =
+            "SELECT i.name, i.module, f.flip_rate, f.flips, f.observations, f.last_build_id"
+                    + " FROM test_flakiness f JOIN test_definitions i ON i.id = f.test_id"
+                    + " WHERE f.flip_rate >= ? AND f.observations >= ? ORDER BY f.flip_rate DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int window;
+    private final int minBuilds;
+    private final double threshold;
+    private final long windowMask;
+
+    public FlakinessTracker(JdbcTemplate jdbcTemplate,
+                            @Value("${app.flaky.window:20}") int window,
+                            @Value("${app.flaky.min-builds:5}") int minBuilds,
+                            @Value("${app.flaky.threshold:0.3}") double threshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.window = Math.min(Math.max(window, 2), 63);
+        this.minBuilds = Math.max(minBuilds, 2);
+        this.threshold = threshold;
+        this.windowMask = (1L << this.window) - 1;
+    }
+
+    /**
+     * Folds one build's results into each test's outcome window. A result for a
+     * newer build shifts the window in place; a re-import of the latest build or
+     * an out-of-order older build rebuilds that test's window from test_results.
+     * Returns the tests whose reported flip rate changed.
+     */
+    Set<Long> update(Long buildId, Map<Long, TestCase.Status> results) {
+        Map<Long, State> states = lockStates(results.keySet());
+
+        List<Long> rebuild = new ArrayList<>();
+        Map<Long, State> updated = new HashMap<>();
+        for (Map.Entry<Long, TestCase.Status> result : results.entrySet()) {
+            TestCase.Status status = result.getValue();
+            State state = states.get(result.getKey());
+            if (state != null && buildId <= state.lastBuildId()) {
+                rebuild.add(result.getKey());
+            } else if (status == TestCase.Status.PASS || status == TestCase.Status.FAIL) {
+                updated.put(result.getKey(), advance(state, buildId, status == TestCase.Status.FAIL));
+            }
+        }
+
+        if (!rebuild.isEmpty()) {
+            queryIn(RECENT_PREFIX, RECENT_SUFFIX, List.of(), rebuild, rs -> {
+                long testId = rs.getLong("test_id");
+                updated.put(testId, advance(updated.get(testId), rs.getLong("build_id"),
+                        "FAIL".equals(rs.getString("status"))));
+            }, window);
+        }
+        save(updated);
+        return changed(states, updated, updated.keySet());
+    }
+
+    /**
+     * Rebuilds the outcome windows of tests whose results were just removed
+     * from test_results, and drops the row of a test with no outcome left.
+     * Returns the tests whose reported flip rate changed.
+     */
+    Set<Long> rebuild(Collection<Long> testIds) {
+        if (testIds.isEmpty()) {
+            return Set.of();
+        }
+        Map<Long, State> states = lockStates(testIds);
+        Map<Long, State> rebuilt = new HashMap<>();
+        queryIn(RECENT_PREFIX, RECENT_SUFFIX, List.of(), testIds, rs -> {
+            long testId = rs.getLong("test_id");
+            rebuilt.put(testId, advance(rebuilt.get(testId), rs.getLong("build_id"),
+                    "FAIL".equals(rs.getString("status"))));
+        }, window);
+        save(rebuilt);
+
+        List<Object> emptied = new ArrayList<>();
+        for (Long testId : states.keySet()) {
+            if (!rebuilt.containsKey(testId)) {
+                emptied.add(testId);
+            }
+        }
+        if (!emptied.isEmpty()) {
+            jdbcTemplate.update(DELETE_PREFIX + placeholders(emptied.size()) + ")", emptied.toArray());
+        }
+        return changed(states, rebuilt, testIds);
+    }
+
+    public Map<TestKey, Double> findFlipRates(Long buildId) {
+        Map<TestKey, Double> rates = new HashMap<>();
+        jdbcTemplate.query(BUILD_RATES_SQL, rs -> {
+            rates.put(new TestKey(rs.getString("name"), rs.getString("module")), rs.getDouble("flip_rate"));
+        }, buildId, minBuilds);
+        return rates;
+    }
+
+    public Map<TestKey, Double> findFlipRates(Collection<TestKey> tests) {
+        Map<TestKey, Double> rates = new HashMap<>();
+        if (tests.isEmpty()) {
+            return rates;
+        }
+        Set<TestKey> wanted = new HashSet<>(tests);
+        Set<String> names = new HashSet<>();
+        for (TestKey test : tests) {
+            names.add(test.name());
+        }
+        queryIn(NAME_RATES_PREFIX, ")", List.of(minBuilds), names, rs -> {
+            TestKey test = new TestKey(rs.getString("name"), rs.getString("module"));
+            if (wanted.contains(test)) {
+                rates.put(test, rs.getDouble("flip_rate"));
+            }
+        });
+        return rates;
+    }
+
+    public List<FlakyTest> findFlakyTests(int limit) {
+        return jdbcTemplate.query(TOP_SQL, (rs, rowNum) -> new FlakyTest(rs.getString("name"),
+                rs.getString("module"), rs.getDouble("flip_rate"), rs.getInt("flips"),
+                rs.getInt("observations"), rs.getLong("last_build_id")), threshold, minBuilds, limit);
+    }
+
+    public boolean isFlaky(Double flipRate) {
+        return flipRate != null && flipRate >= threshold;
+    }
+
+    /** Shifts one more outcome into the window; the newest outcome is the lowest bit. */
+    State advance(State state, long buildId, boolean failed) {
+        long bit = failed ? 1 : 0;
+        return state == null
+                ? new State(buildId, bit, 1)
+                : new State(buildId, ((state.outcomes() << 1) | bit) & windowMask,
+                        Math.min(state.observations() + 1, window));
+    }
+
+    /** The flip rate comparisons and listings show, or null below min-builds or without flips. */
+    Double reportedRate(State state) {
+        if (state == null || state.observations() < minBuilds) {
+            return null;
+        }
+        double flipRate = flipRate(state);
+        return flipRate > 0 ? flipRate : null;
+    }
+
+    static int flips(State state) {
+        return state.observations() > 1
+                ? Long.bitCount((state.outcomes() ^ (state.outcomes() >>> 1)) & ((1L << (state.observations() - 1)) - 1))
+                : 0;
+    }
+
+    static double flipRate(State state) {
+        return state.observations() > 1 ? (double) flips(state) / (state.observations() - 1) : 0;
+    }
+
+    /** Locks the tests' rows until the caller's transaction ends, so concurrent updates apply one after the other. */
+    private Map<Long, State> lockStates(Collection<Long> testIds) {
+        Map<Long, State> states = new HashMap<>();
+        queryIn(STATE_PREFIX, ") FOR UPDATE", List.of(), testIds, rs -> {
+            states.put(rs.getLong("test_id"), new State(rs.getLong("last_build_id"),
+                    rs.getLong("outcomes"), rs.getInt("observations")));
+        });
+        return states;
+    }
+
+    private Set<Long> changed(Map<Long, State> before, Map<Long, State> after, Collection<Long> testIds) {
+        Set<Long> changed = new HashSet<>();
+        for (Long testId : testIds) {
+            if (!Objects.equals(reportedRate(before.get(testId)), reportedRate(after.get(testId)))) {
+                changed.add(testId);
+            }
+        }
+        return changed;
+    }
+
+    private void save(Map<Long, State> states) {
+        if (states.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(states.size());
+        for (Map.Entry<Long, State> entry : states.entrySet()) {
+            State state = entry.getValue();
+            args.add(new Object[] { entry.getKey(), state.lastBuildId(), state.outcomes(), state.observations(),
+                    flips(state), flipRate(state), now });
+        }
+        jdbcTemplate.batchUpdate(SAVE_SQL, args);
+    }
+
+    private void queryIn(String prefix, String suffix, List<Object> leadingArgs, Collection<?> values,
+                         RowCallbackHandler handler, Object... trailingArgs) {
+        List<Object> args = new ArrayList<>(leadingArgs);
+        StringBuilder sql = new StringBuilder(prefix);
+        boolean first = true;
+        for (Object value : values) {
+            sql.append(first ? "?" : ", ?");
+            args.add(value);
+            first = false;
+        }
+        sql.append(suffix);
+        Collections.addAll(args, trailingArgs);
+        jdbcTemplate.query(sql.toString(), handler, args.toArray());
+    }
+
+    private static String placeholders(int count) {
+        StringBuilder sql = new StringBuilder(count * 3);
+        for (int i = 0; i < count; i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        return sql.toString();
+    }
+
+    record State(long lastBuildId, long outcomes, int observations) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.rtd_be.history;
+
+import com.example.rtd_be.model.TestCase;
+
+public record ResultEntry(Long testId, TestCase.Status status, Double duration) {
+}
@@ -0,0 +1,164 @@
+package com.example.rtd_be.history;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maps (name, module) pairs to their test_definitions ids, creating definitions
+ * on first sight. Definitions are never rewritten: a test reported under a new
+ * module is a new definition, so history recorded under the old one stays put.
+ * Recently used definitions are cached (app.definitions.cache-size), so
+ * repeated imports of the same suite resolve without touching the database.
+ * Lookups learned inside a transaction are only cached once it commits.
+ */
+@Component
+public class TestDefinitions {
+
+    private static final String FIND_PREFIX =
+            "SELECT id, name, module FROM test_definitions WHERE name IN (";
+    private static final String NAMES_PREFIX =
+            "SELECT DISTINCT name FROM test_definitions WHERE id IN (";
+    private static final int NAMES_CHUNK = 1000;
+    private static final String INSERT_PREFIX =
+            "INSERT IGNORE INTO test_definitions (name, module) VALUES ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LinkedHashMap<TestKey, Long> cache;
+
+    public TestDefinitions(JdbcTemplate jdbcTemplate,
+                           @Value("${app.definitions.cache-size:500000}") int cacheSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TestKey, Long> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public Long resolve(String name, String module) {
+        TestKey key = new TestKey(name, module);
+        return resolve(List.of(key)).get(key);
+    }
+
+    /** Returns the definition id of every key, creating the definitions not seen before. */
+    public Map<TestKey, Long> resolve(Collection<TestKey> keys) {
+        Map<TestKey, Long> ids = new HashMap<>(keys.size() * 2);
+        List<TestKey> misses = new ArrayList<>();
+        synchronized (cache) {
+            for (TestKey key : keys) {
+                Long cached = cache.get(key);
+                if (cached != null) {
+                    ids.put(key, cached);
+                } else if (!ids.containsKey(key)) {
+                    misses.add(key);
+                }
+            }
+        }
+        if (misses.isEmpty()) {
+            return ids;
+        }
+
+        Map<TestKey, Long> learned = new HashMap<>();
+        find(misses, learned);
+        List<TestKey> missing = misses.stream().filter(key -> !learned.containsKey(key)).distinct().toList();
+        if (!missing.isEmpty()) {
+            insert(missing);
+            find(missing, learned);
+            for (TestKey key : missing) {
+                if (!learned.containsKey(key)) {
+                    throw new RuntimeException("Test definition " + key.name() + " (" + key.module()
+                            + ") could not be created");
+                }
+            }
+        }
+        ids.putAll(learned);
+        remember(learned);
+        return ids;
+    }
+
+    public Set<String> findNames(Collection<Long> ids) {
+        Set<String> names = new HashSet<>();
+        List<Long> chunk = new ArrayList<>(Math.min(ids.size(), NAMES_CHUNK));
+        Iterator<Long> it = ids.iterator();
+        while (it.hasNext()) {
+            chunk.add(it.next());
+            if (chunk.size() == NAMES_CHUNK || !it.hasNext()) {
+                StringBuilder sql = new StringBuilder(NAMES_PREFIX);
+                for (int i = 0; i < chunk.size(); i++) {
+                    sql.append(i == 0 ? "?" : ", ?");
+                }
+                sql.append(')');
+                names.addAll(jdbcTemplate.queryForList(sql.toString(), String.class, chunk.toArray()));
+                chunk.clear();
+            }
+        }
+        return names;
+    }
+
+    private void insert(List<TestKey> keys) {
+        List<Object> args = new ArrayList<>(keys.size() * 2);
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (TestKey key : keys) {
+            sql.append(args.isEmpty() ? "(?, ?)" : ", (?, ?)");
+            args.add(key.name());
+            args.add(key.module());
+        }
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /** Looks the keys up by name and keeps the definitions whose module matches. */
+    private void find(Collection<TestKey> keys, Map<TestKey, Long> found) {
+        Set<TestKey> wanted = new HashSet<>(keys);
+        Set<String> names = new LinkedHashSet<>();
+        for (TestKey key : keys) {
+            names.add(key.name());
+        }
+        StringBuilder sql = new StringBuilder(FIND_PREFIX);
+        for (int i = 0; i < names.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(')');
+        jdbcTemplate.query(sql.toString(), rs -> {
+            TestKey key = new TestKey(rs.getString("name"), rs.getString("module"));
+            if (wanted.contains(key)) {
+                found.put(key, rs.getLong("id"));
+            }
+        }, names.toArray());
+    }
+
+    private void remember(Map<TestKey, Long> learned) {
+        if (learned.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cacheAll(learned);
+                }
+            });
+        } else {
+            cacheAll(learned);
+        }
+    }
+
+    private void cacheAll(Map<TestKey, Long> learned) {
+        synchronized (cache) {
+            cache.putAll(learned);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.rtd_be.history;
+
+import com.example.rtd_be.dto.TestHistory;
+import com.example.rtd_be.dto.TestHistoryPoint;
+import com.example.rtd_be.model.TestCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class TestHistoryStore {
+
+    private static final String RECORD_SQL =
+            "INSERT INTO test_results (test_id, build_id, status, duration, recorded_at) VALUES (?, ?, ?, ?, ?)"
+                    + " ON DUPLICATE KEY UPDATE status = VALUES(status), duration = VALUES(duration),"
+                    + " recorded_at = VALUES(recorded_at)";
+    private static final String REMOVE_RESULTS_PREFIX =
+            "DELETE FROM test_results WHERE build_id = ? AND test_id IN (";
+    private static final int REBUILD_CHUNK = 1000;
+
+    private static final String BUILD_TESTS_SQL =
+            "SELECT test_id FROM test_results WHERE build_id = ?";
+    private static final String REMOVE_BUILD_SQL =
+            "DELETE FROM test_results WHERE build_id = ?";
+    private static final String IDENTITY_SQL =
+            "SELECT id, name, module FROM test_definitions WHERE name = ? ORDER BY id DESC LIMIT 1";
+    private static final String MODULE_IDENTITY_SQL =
+            "SELECT id, name, module FROM test_definitions WHERE name = ? AND module_key = COALESCE(?, '')";
+    private static final String SERIES_SQL =
+            "SELECT r.build_id, b.version, r.status, r.duration, r.recorded_at FROM test_results r"
+                    + " JOIN builds b ON b.id = r.build_id"
+                    + " WHERE r.test_id = ? AND r.build_id < ? ORDER BY r.build_id DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FlakinessTracker flakinessTracker;
+    private final DurationStatsTracker durationStatsTracker;
+
+    /** Records one build's results and returns the tests whose reported flip rate changed. */
+    public Set<Long> recordResults(Long buildId, Collection<ResultEntry> results) {
+        if (results.isEmpty()) {
+            return Set.of();
+        }
+        Timestamp recordedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(results.size());
+        Map<Long, TestCase.Status> statuses = new LinkedHashMap<>();
+        Map<Long, Double> durations = new LinkedHashMap<>();
+        for (ResultEntry result : results) {
+            args.add(new Object[] { result.testId(), buildId,
+                    result.status() != null ? result.status().name() : null, result.duration(), recordedAt });
+            statuses.put(result.testId(), result.status());
+            if (result.duration() != null) {
+                durations.put(result.testId(), result.duration());
+            }
+        }
+        jdbcTemplate.batchUpdate(RECORD_SQL, args);
+        Set<Long> flakinessChanged = flakinessTracker.update(buildId, statuses);
+        durationStatsTracker.update(buildId, durations);
+        return flakinessChanged;
+    }
+
+    /**
+     * Removes one build's results for these tests and rebuilds their flakiness
+     * and duration statistics from the results left. Returns the tests whose
+     * reported flip rate changed.
+     */
+    public Set<Long> removeResults(Long buildId, Collection<Long> testIds) {
+        if (testIds.isEmpty()) {
+            return Set.of();
+        }
+        List<Object> args = new ArrayList<>(testIds.size() + 1);
+        args.add(buildId);
+        args.addAll(testIds);
+        jdbcTemplate.update(REMOVE_RESULTS_PREFIX + placeholders(testIds.size()) + ")", args.toArray());
+        durationStatsTracker.removeResults(buildId, testIds);
+        return flakinessTracker.rebuild(testIds);
+    }
+
+    /** Same as {@link #removeResults} for every test the build has results for. */
+    public Set<Long> removeBuild(Long buildId) {
+        List<Long> testIds = jdbcTemplate.queryForList(BUILD_TESTS_SQL, Long.class, buildId);
+        jdbcTemplate.update(REMOVE_BUILD_SQL, buildId);
+        durationStatsTracker.removeBuild(buildId);
+        Set<Long> flakinessChanged = new HashSet<>();
+        for (int from = 0; from < testIds.size(); from += REBUILD_CHUNK) {
+            List<Long> chunk = testIds.subList(from, Math.min(from + REBUILD_CHUNK, testIds.size()));
+            flakinessChanged.addAll(flakinessTracker.rebuild(chunk));
+            durationStatsTracker.recompute(chunk);
+        }
+        return flakinessChanged;
+    }
+
+    /** A name alone picks its newest definition; pass the module to pick one of several. */
+    public Optional<TestHistory> findHistory(String name, String module, Long beforeBuildId, int limit) {
+        RowMapper<TestHistory> identity = (rs, rowNum) ->
+                new TestHistory(rs.getLong("id"), rs.getString("name"), rs.getString("module"), null, null);
+        List<TestHistory> identities = module != null
+                ? jdbcTemplate.query(MODULE_IDENTITY_SQL, identity, name, new TestKey(name, module).module())
+                : jdbcTemplate.query(IDENTITY_SQL, identity, name);
+        if (identities.isEmpty()) {
+            return Optional.empty();
+        }
+
+        TestHistory history = identities.get(0);
+        List<TestHistoryPoint> points = jdbcTemplate.query(SERIES_SQL, (rs, rowNum) -> {
+            String status = rs.getString("status");
+            double durationValue = rs.getDouble("duration");
+            Double duration = rs.wasNull() ? null : durationValue;
+            return new TestHistoryPoint(rs.getLong("build_id"), rs.getString("version"),
+                    status != null ? TestCase.Status.valueOf(status) : null, duration,
+                    rs.getTimestamp("recorded_at").toLocalDateTime());
+        }, history.getTestId(), beforeBuildId != null ? beforeBuildId : Long.MAX_VALUE, limit + 1);
+
+        if (points.size() > limit) {
+            points = points.subList(0, limit);
+            history.setNextCursor(points.get(limit - 1).getBuildId());
+        }
+        history.setPoints(points);
+        return Optional.of(history);
+    }
+
+    private static String placeholders(int count) {
+        StringBuilder sql = new StringBuilder(count * 3);
+        for (int i = 0; i < count; i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.rtd_be.history;
+
+/**
+ * Identifies a test definition: the same name under two modules is two tests.
+ * Keys compare the way the definitions' unique key does, which ignores
+ * trailing spaces and treats a blank module as no module.
+ */
+public record TestKey(String name, String module) {
+
+    public TestKey {
+        name = stripTrailingSpaces(name);
+        module = stripTrailingSpaces(module);
+        if (module != null && module.isEmpty()) {
+            module = null;
+        }
+    }
+
+    private static String stripTrailingSpaces(String value) {
+        if (value == null) {
+            return null;
+        }
+        int end = value.length();
+        while (end > 0 && value.charAt(end - 1) == ' ') {
+            end--;
+        }
+        return end == value.length() ? value : value.substring(0, end);
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.rtd_be.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * RFC 4180 record reader that scans raw bytes in a reusable buffer. Field
+ * bounds point into the buffer and are only valid until the next call to
+ * {@link #nextRecord()}; values are decoded on demand so columns that are never
+ * read never become Strings. The buffer grows to hold one record but never
+ * past the maximum record length, so an unbalanced quote fails the read
+ * instead of pulling the rest of the file into memory.
+ */
+final class CsvReader {
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private final InputStream in;
+    private final int maxRecordLength;
+    private byte[] buf;
+    private int start;
+    private int limit;
+    private int scanPos;
+    private boolean inQuotes;
+    private boolean eof;
+    private long records;
+
+    private int fieldCount;
+    private int[] fieldStart = new int[8];
+    private int[] fieldEnd = new int[8];
+    private boolean[] fieldEscaped = new boolean[8];
+    private byte[] scratch = new byte[256];
+
+    CsvReader(InputStream in, int bufferSize, int maxRecordLength) throws IOException {
+        this.in = in;
+        this.maxRecordLength = maxRecordLength;
+        this.buf = new byte[Math.min(bufferSize, maxRecordLength + 1)];
+        while (limit < 3 && !eof) {
+            fill();
+        }
+        if (limit >= 3 && (buf[0] & 0xFF) == 0xEF && (buf[1] & 0xFF) == 0xBB && (buf[2] & 0xFF) == 0xBF) {
+            start = 3;
+            scanPos = 3;
+        }
+    }
+
+    boolean nextRecord() throws IOException {
+        int end;
+        while ((end = findRecordEnd()) < 0) {
+            if (eof) {
+                if (start >= limit) {
+                    return false;
+                }
+                end = limit;
+                break;
+            }
+            fill();
+        }
+
+        int recordEnd = end;
+        if (recordEnd > start && buf[recordEnd - 1] == '\r') {
+            recordEnd--;
+        }
+        splitFields(start, recordEnd);
+
+        start = Math.min(end + 1, limit);
+        scanPos = start;
+        inQuotes = false;
+        records++;
+        return true;
+    }
+
+    int fieldCount() {
+        return fieldCount;
+    }
+
+    boolean isEmpty(int field) {
+        return fieldStart[field] == fieldEnd[field];
+    }
+
+    String getString(int field) {
+        int from = fieldStart[field];
+        int to = fieldEnd[field];
+        if (!fieldEscaped[field]) {
+            return new String(buf, from, to - from, StandardCharsets.UTF_8);
+        }
+        if (scratch.length < to - from) {
+            scratch = new byte[to - from];
+        }
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            scratch[length++] = buf[i];
+            if (buf[i] == '"') {
+                i++;
+            }
+        }
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    int hash(int field) {
+        int hash = 1;
+        for (int i = fieldStart[field]; i < fieldEnd[field]; i++) {
+            hash = 31 * hash + buf[i];
+        }
+        return hash;
+    }
+
+    boolean contentEquals(int field, byte[] value) {
+        return !fieldEscaped[field]
+                && Arrays.equals(buf, fieldStart[field], fieldEnd[field], value, 0, value.length);
+    }
+
+    byte[] copyBytes(int field) {
+        return Arrays.copyOfRange(buf, fieldStart[field], fieldEnd[field]);
+    }
+
+    boolean isEscaped(int field) {
+        return fieldEscaped[field];
+    }
+
+    /** Case-insensitive match against an upper-case ASCII value. */
+    boolean equalsIgnoreCaseAscii(int field, byte[] upperCase) {
+        int from = fieldStart[field];
+        if (fieldEnd[field] - from != upperCase.length) {
+            return false;
+        }
+        for (int i = 0; i < upperCase.length; i++) {
+            int b = buf[from + i];
+            if (b >= 'a' && b <= 'z') {
+                b -= 'a' - 'A';
+            }
+            if (b != upperCase[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    double getDouble(int field) {
+        int p = fieldStart[field];
+        int end = fieldEnd[field];
+        boolean negative = false;
+        if (p < end && (buf[p] == '-' || buf[p] == '+')) {
+            negative = buf[p] == '-';
+            p++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean dot = false;
+        for (; p < end; p++) {
+            byte b = buf[p];
+            if (b >= '0' && b <= '9') {
+                if (digits == 18) {
+                    return Double.parseDouble(getString(field).trim());
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (dot) {
+                    fractionDigits++;
+                }
+            } else if (b == '.' && !dot) {
+                dot = true;
+            } else {
+                return Double.parseDouble(getString(field).trim());
+            }
+        }
+        if (digits == 0 || mantissa >= MAX_EXACT_MANTISSA || fractionDigits >= POWERS_OF_TEN.length) {
+            return Double.parseDouble(getString(field).trim());
+        }
+        double value = fractionDigits == 0 ? mantissa : mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    private int findRecordEnd() {
+        for (int p = scanPos; p < limit; p++) {
+            byte b = buf[p];
+            if (b == '"') {
+                inQuotes = !inQuotes;
+            } else if (b == '\n' && !inQuotes) {
+                return p;
+            }
+        }
+        scanPos = limit;
+        return -1;
+    }
+
+    private void fill() throws IOException {
+        if (start > 0) {
+            System.arraycopy(buf, start, buf, 0, limit - start);
+            limit -= start;
+            scanPos -= start;
+            start = 0;
+        }
+        if (limit == buf.length) {
+            if (limit > maxRecordLength) {
+                throw new IOException("CSV record " + (records + 1) + " exceeds the maximum record length of "
+                        + maxRecordLength + " bytes" + (inQuotes ? "; check for an unclosed quote" : ""));
+            }
+            buf = Arrays.copyOf(buf, (int) Math.min(buf.length * 2L, maxRecordLength + 1L));
+        }
+        int read = in.read(buf, limit, buf.length - limit);
+        if (read < 0) {
+            eof = true;
+        } else {
+            limit += read;
+        }
+    }
+
+    private void splitFields(int from, int to) {
+        fieldCount = 0;
+        int p = from;
+        while (p < to && isSpace(buf[p])) {
+            p++;
+        }
+        if (p == to) {
+            return;
+        }
+
+        p = from;
+        while (true) {
+            ensureFieldCapacity();
+            int fieldFrom = p;
+            while (fieldFrom < to && isSpace(buf[fieldFrom])) {
+                fieldFrom++;
+            }
+
+            if (fieldFrom < to && buf[fieldFrom] == '"') {
+                int q = fieldFrom + 1;
+                boolean escaped = false;
+                while (q < to) {
+                    if (buf[q] == '"') {
+                        if (q + 1 < to && buf[q + 1] == '"') {
+                            escaped = true;
+                            q += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    q++;
+                }
+                fieldStart[fieldCount] = fieldFrom + 1;
+                fieldEnd[fieldCount] = Math.min(q, to);
+                fieldEscaped[fieldCount] = escaped;
+                p = Math.min(q + 1, to);
+                while (p < to && buf[p] != ',') {
+                    p++;
+                }
+            } else {
+                int q = fieldFrom;
+                while (q < to && buf[q] != ',') {
+                    q++;
+                }
+                int fieldTo = q;
+                while (fieldTo > fieldFrom && isSpace(buf[fieldTo - 1])) {
+                    fieldTo--;
+                }
+                fieldStart[fieldCount] = fieldFrom;
+                fieldEnd[fieldCount] = fieldTo;
+                fieldEscaped[fieldCount] = false;
+                p = q;
+            }
+            fieldCount++;
+
+            if (p >= to) {
+                return;
+            }
+            p++;
+        }
+    }
+
+    private void ensureFieldCapacity() {
+        if (fieldCount == fieldStart.length) {
+            fieldStart = Arrays.copyOf(fieldStart, fieldCount * 2);
+            fieldEnd = Arrays.copyOf(fieldEnd, fieldCount * 2);
+            fieldEscaped = Arrays.copyOf(fieldEscaped, fieldCount * 2);
+        }
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t';
+    }
+}
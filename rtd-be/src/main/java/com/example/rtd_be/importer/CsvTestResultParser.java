@@ -0,0 +1,127 @@
+package com.example.rtd_be.importer;
+
+import com.example.rtd_be.dto.TestResultImport;
+import com.example.rtd_be.model.TestCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class CsvTestResultParser implements TestResultParser {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MODULE_CACHE_SIZE = 64;
+    private static final TestCase.Status[] STATUSES = TestCase.Status.values();
+    private static final byte[][] STATUS_NAMES = new byte[STATUSES.length][];
+
+    static {
+        for (int i = 0; i < STATUSES.length; i++) {
+            STATUS_NAMES[i] = STATUSES[i].name().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private final int maxRecordLength;
+
+    public CsvTestResultParser(@Value("${app.import.max-record-length:1MB}") DataSize maxRecordLength) {
+        this.maxRecordLength = (int) Math.min(maxRecordLength.toBytes(), Integer.MAX_VALUE - 8);
+    }
+
+    @Override
+    public boolean supports(String filename) {
+        return filename != null && filename.toLowerCase().endsWith(".csv");
+    }
+
+    @Override
+    public void parse(InputStream in, TestResultSink sink) throws IOException {
+        CsvReader reader = new CsvReader(in, BUFFER_SIZE, maxRecordLength);
+        if (!reader.nextRecord()) {
+            return;
+        }
+
+        int nameColumn = -1;
+        int moduleColumn = -1;
+        int statusColumn = -1;
+        int durationColumn = -1;
+        for (int i = 0; i < reader.fieldCount(); i++) {
+            String header = reader.getString(i).trim();
+            if (header.equalsIgnoreCase("testCaseName") || header.equalsIgnoreCase("name")) {
+                nameColumn = i;
+            } else if (header.equalsIgnoreCase("module")) {
+                moduleColumn = i;
+            } else if (header.equalsIgnoreCase("status")) {
+                statusColumn = i;
+            } else if (header.equalsIgnoreCase("duration")) {
+                durationColumn = i;
+            }
+        }
+        if (nameColumn < 0 || statusColumn < 0) {
+            nameColumn = 0;
+            moduleColumn = 1;
+            statusColumn = 2;
+            durationColumn = 3;
+        }
+        int requiredColumns = Math.max(nameColumn, statusColumn) + 1;
+
+        byte[][] moduleKeys = new byte[MODULE_CACHE_SIZE][];
+        String[] moduleValues = new String[MODULE_CACHE_SIZE];
+
+        while (reader.nextRecord()) {
+            int fields = reader.fieldCount();
+            if (fields == 0) {
+                continue;
+            }
+            if (fields < requiredColumns) {
+                sink.reject();
+                continue;
+            }
+
+            TestCase.Status status = status(reader, statusColumn);
+            if (status == null) {
+                sink.reject();
+                continue;
+            }
+
+            TestResultImport result = new TestResultImport();
+            if (durationColumn >= 0 && durationColumn < fields && !reader.isEmpty(durationColumn)) {
+                try {
+                    result.setDuration(reader.getDouble(durationColumn));
+                } catch (NumberFormatException e) {
+                    sink.reject();
+                    continue;
+                }
+            }
+            result.setTestCaseName(reader.getString(nameColumn));
+            result.setStatus(status.name());
+            if (moduleColumn >= 0 && moduleColumn < fields) {
+                result.setModule(module(reader, moduleColumn, moduleKeys, moduleValues));
+            }
+            sink.accept(result);
+        }
+    }
+
+    private static TestCase.Status status(CsvReader reader, int column) {
+        for (int i = 0; i < STATUSES.length; i++) {
+            if (reader.equalsIgnoreCaseAscii(column, STATUS_NAMES[i])) {
+                return STATUSES[i];
+            }
+        }
+        return null;
+    }
+
+    private static String module(CsvReader reader, int column, byte[][] keys, String[] values) {
+        if (reader.isEscaped(column)) {
+            return reader.getString(column);
+        }
+        int slot = reader.hash(column) & (MODULE_CACHE_SIZE - 1);
+        if (keys[slot] != null && reader.contentEquals(column, keys[slot])) {
+            return values[slot];
+        }
+        String module = reader.getString(column);
+        keys[slot] = reader.copyBytes(column);
+        values[slot] = module;
+        return module;
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.rtd_be.importer;
+
+public enum ImportMode {
+    INSERT, UPSERT
+}
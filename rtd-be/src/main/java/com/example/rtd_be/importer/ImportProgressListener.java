@@ -0,0 +1,8 @@
+package com.example.rtd_be.importer;
+
+@FunctionalInterface
+public interface ImportProgressListener {
+    ImportProgressListener NONE = (imported, rejected) -> { };
+
+    void onBatchCommitted(long rowsImported, long rowsRejected);
+}
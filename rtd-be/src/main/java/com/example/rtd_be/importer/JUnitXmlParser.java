@@ -0,0 +1,140 @@
+package com.example.rtd_be.importer;
+
+import com.example.rtd_be.dto.TestResultImport;
+import com.example.rtd_be.model.TestCase;
+import org.springframework.stereotype.Component;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.regex.Pattern;
+
+@Component
+public class JUnitXmlParser implements TestResultParser {
+
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final Pattern GROUPED_TIME = Pattern.compile("[1-9]\\d{0,2}(,\\d{3})+(\\.\\d*)?");
+
+    private final XMLInputFactory xmlInputFactory;
+
+    public JUnitXmlParser() {
+        this.xmlInputFactory = XMLInputFactory.newFactory();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, false);
+    }
+
+    @Override
+    public boolean supports(String filename) {
+        return filename != null && filename.toLowerCase().endsWith(".xml");
+    }
+
+    @Override
+    public void parse(InputStream in, TestResultSink sink) throws IOException {
+        XMLStreamReader reader = null;
+        try {
+            reader = xmlInputFactory.createXMLStreamReader(in);
+            String suiteName = null;
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                String element = reader.getLocalName();
+                if (element.equals("testsuite")) {
+                    suiteName = reader.getAttributeValue(null, "name");
+                } else if (element.equals("testcase")) {
+                    readTestCase(reader, suiteName, sink);
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Invalid JUnit XML report: " + e.getMessage(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                }
+            }
+        }
+    }
+
+    private static void readTestCase(XMLStreamReader reader, String suiteName, TestResultSink sink)
+            throws XMLStreamException {
+        String name = reader.getAttributeValue(null, "name");
+        String className = reader.getAttributeValue(null, "classname");
+        String time = reader.getAttributeValue(null, "time");
+        if (className == null || className.isBlank()) {
+            className = suiteName;
+        }
+
+        TestCase.Status status = TestCase.Status.PASS;
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                if (depth == 2) {
+                    status = merge(status, reader.getLocalName());
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+
+        if (name == null || name.isBlank()) {
+            sink.reject();
+            return;
+        }
+        String testCaseName = className == null ? name : className + "." + name;
+        if (testCaseName.length() > MAX_NAME_LENGTH || className != null && className.length() > MAX_NAME_LENGTH) {
+            sink.reject();
+            return;
+        }
+        Double duration = null;
+        if (time != null && !time.isBlank()) {
+            try {
+                duration = parseTime(time);
+            } catch (NumberFormatException e) {
+                sink.reject();
+                return;
+            }
+        }
+
+        TestResultImport result = new TestResultImport();
+        result.setTestCaseName(testCaseName);
+        result.setModule(className);
+        result.setStatus(status.name());
+        result.setDuration(duration);
+        sink.accept(result);
+    }
+
+    /**
+     * Surefire groups thousands with commas ("1,234.5"); reports written under
+     * a decimal-comma locale use a lone comma as the point ("0,5"). Anything
+     * else with a comma is ambiguous and rejected.
+     */
+    static double parseTime(String time) {
+        String value = time.trim();
+        int comma = value.indexOf(',');
+        if (comma < 0) {
+            return Double.parseDouble(value);
+        }
+        if (GROUPED_TIME.matcher(value).matches()) {
+            return Double.parseDouble(value.replace(",", ""));
+        }
+        if (comma == value.lastIndexOf(',') && value.indexOf('.') < 0) {
+            return Double.parseDouble(value.replace(',', '.'));
+        }
+        throw new NumberFormatException("Ambiguous time: " + time);
+    }
+
+    private static TestCase.Status merge(TestCase.Status current, String child) {
+        return switch (child) {
+            case "failure", "error", "rerunFailure", "rerunError" -> TestCase.Status.FAIL;
+            case "skipped" -> current == TestCase.Status.FAIL ? current : TestCase.Status.BLOCKED;
+            default -> current;
+        };
+    }
+}
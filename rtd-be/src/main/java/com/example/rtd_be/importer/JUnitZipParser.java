@@ -0,0 +1,125 @@
+package com.example.rtd_be.importer;
+
+import com.example.rtd_be.config.WorkerThreads;
+import com.example.rtd_be.dto.TestResultImport;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+@Component
+public class JUnitZipParser implements TestResultParser {
+
+    private final JUnitXmlParser xmlParser;
+    private final ExecutorService executor;
+    private final int maxInFlight;
+    private final int maxReportBytes;
+
+    public JUnitZipParser(JUnitXmlParser xmlParser,
+                          WorkerThreads workerThreads,
+                          @Value("${app.import.xml-parallelism:0}") int parallelism,
+                          @Value("${app.import.max-report-size:64MB}") DataSize maxReportSize) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.xmlParser = xmlParser;
+        this.maxInFlight = threads * 2;
+        this.maxReportBytes = (int) Math.min(maxReportSize.toBytes(), Integer.MAX_VALUE - 8);
+        this.executor = Executors.newFixedThreadPool(threads, workerThreads.platform("junit-parser-"));
+    }
+
+    @Override
+    public boolean supports(String filename) {
+        return filename != null && filename.toLowerCase().endsWith(".zip");
+    }
+
+    @Override
+    public void parse(InputStream in, TestResultSink sink) throws IOException {
+        Deque<Future<ParsedReport>> inFlight = new ArrayDeque<>(maxInFlight);
+        try (ZipInputStream zip = new ZipInputStream(in)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.isDirectory() || !xmlParser.supports(entry.getName())) {
+                    continue;
+                }
+                String name = entry.getName();
+                byte[] report = zip.readNBytes(maxReportBytes + 1);
+                if (report.length > maxReportBytes) {
+                    throw new IOException("Report " + name + " exceeds the maximum report size");
+                }
+                if (inFlight.size() >= maxInFlight) {
+                    drain(inFlight.removeFirst(), sink);
+                }
+                inFlight.addLast(executor.submit(() -> parseReport(name, report)));
+            }
+            while (!inFlight.isEmpty()) {
+                drain(inFlight.removeFirst(), sink);
+            }
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private ParsedReport parseReport(String name, byte[] report) throws IOException {
+        ParsedReport parsed = new ParsedReport();
+        try {
+            xmlParser.parse(new ByteArrayInputStream(report), parsed);
+        } catch (IOException e) {
+            throw new IOException(name + ": " + e.getMessage(), e);
+        }
+        return parsed;
+    }
+
+    private static void drain(Future<ParsedReport> future, TestResultSink sink) throws IOException {
+        ParsedReport report;
+        try {
+            report = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while parsing JUnit reports", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("Failed to parse JUnit report: " + cause.getMessage(), cause);
+        }
+        for (TestResultImport row : report.rows) {
+            sink.accept(row);
+        }
+        for (int i = 0; i < report.rejected; i++) {
+            sink.reject();
+        }
+    }
+
+    private static class ParsedReport implements TestResultSink {
+        private final List<TestResultImport> rows = new ArrayList<>();
+        private int rejected;
+
+        @Override
+        public void accept(TestResultImport row) {
+            rows.add(row);
+        }
+
+        @Override
+        public void reject() {
+            rejected++;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.rtd_be.importer;
+
+import com.example.rtd_be.dto.TestResultImport;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.InputStream;
+
+@Component
+@RequiredArgsConstructor
+public class JsonTestResultParser implements TestResultParser {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(String filename) {
+        return filename != null && filename.toLowerCase().endsWith(".json");
+    }
+
+    @Override
+    public void parse(InputStream in, TestResultSink sink) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of test results");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IOException("Unexpected end of JSON input");
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    sink.reject();
+                    continue;
+                }
+                // read the whole element first so a badly typed field rejects only this row
+                JsonNode element = objectMapper.readTree(parser);
+                TestResultImport row;
+                try {
+                    row = objectMapper.treeToValue(element, TestResultImport.class);
+                } catch (JsonMappingException e) {
+                    sink.reject();
+                    continue;
+                }
+                sink.accept(row);
+            }
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.rtd_be.importer;
+
+import com.example.rtd_be.dto.ImportSummary;
+import com.example.rtd_be.dto.TestResultImport;
+import com.example.rtd_be.history.ResultEntry;
+import com.example.rtd_be.history.TestDefinitions;
+import com.example.rtd_be.history.TestHistoryStore;
+import com.example.rtd_be.history.TestKey;
+import com.example.rtd_be.model.Build;
+import com.example.rtd_be.model.TestCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@Component
+public class TestResultImporter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO test_cases (test_id, duration, status, build_id) VALUES (?, ?, ?, ?)";
+    private static final String UPSERT_PREFIX =
+            "INSERT INTO test_cases (test_id, duration, status, build_id) VALUES ";
+    private static final String UPSERT_SUFFIX =
+            " ON DUPLICATE KEY UPDATE duration = VALUES(duration), status = VALUES(status)";
+    private static final String EXISTING_PREFIX =
+            "SELECT test_id, duration, status FROM test_cases WHERE build_id = ? AND test_id IN (";
+
+    private final List<TestResultParser> parsers;
+    private final JdbcTemplate jdbcTemplate;
+    private final TestDefinitions testDefinitions;
+    private final TestHistoryStore historyStore;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public TestResultImporter(List<TestResultParser> parsers,
+                              JdbcTemplate jdbcTemplate,
+                              TestDefinitions testDefinitions,
+                              TestHistoryStore historyStore,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.import.batch-size:1000}") int batchSize) {
+        this.parsers = parsers;
+        this.jdbcTemplate = jdbcTemplate;
+        this.testDefinitions = testDefinitions;
+        this.historyStore = historyStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    public ImportSummary importResults(Build build, String filename, InputStream in) throws IOException {
+        return importResults(build, filename, in, ImportMode.UPSERT, ImportProgressListener.NONE);
+    }
+
+    public ImportSummary importResults(Build build, String filename, InputStream in, ImportMode mode,
+                                       ImportProgressListener listener) throws IOException {
+        TestResultParser parser = parsers.stream()
+                .filter(p -> p.supports(filename))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Unsupported file format. Use CSV, JSON, JUnit XML or a zip of JUnit XML reports"));
+
+        long start = System.nanoTime();
+        BatchingSink sink = new BatchingSink(build.getId(), mode, listener);
+        parser.parse(in, sink);
+        sink.flush();
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+
+        long imported = sink.imported();
+        double rowsPerSecond = imported * 1000.0 / Math.max(durationMillis, 1);
+        Map<TestCase.Status, Long> statusDeltas = new EnumMap<>(TestCase.Status.class);
+        for (TestCase.Status status : TestCase.Status.values()) {
+            statusDeltas.put(status, sink.committedDeltas[status.ordinal()]);
+        }
+        return new ImportSummary(build.getId(), mode, imported, sink.inserted, sink.updated, sink.unchanged,
+                sink.duplicates, sink.rejected, sink.batches, durationMillis, rowsPerSecond, statusDeltas,
+                sink.flakinessChanged);
+    }
+
+    static TestCase.Status parseStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        String value = status.trim();
+        for (TestCase.Status candidate : TestCase.Status.values()) {
+            if (candidate.name().equalsIgnoreCase(value)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private record PendingRow(TestKey test, Double duration, TestCase.Status status) {
+    }
+
+    private record StoredRow(Double duration, TestCase.Status status) {
+    }
+
+    private class BatchingSink implements TestResultSink {
+        private final Long buildId;
+        private final ImportMode mode;
+        private final ImportProgressListener listener;
+        private final List<PendingRow> batch = new ArrayList<>(batchSize);
+        private final long[] committedDeltas = new long[TestCase.Status.values().length];
+        private final Set<Long> flakinessChanged = new HashSet<>();
+        private long inserted;
+        private long updated;
+        private long unchanged;
+        private long duplicates;
+        private long rejected;
+        private int batches;
+
+        BatchingSink(Long buildId, ImportMode mode, ImportProgressListener listener) {
+            this.buildId = buildId;
+            this.mode = mode;
+            this.listener = listener;
+        }
+
+        @Override
+        public void accept(TestResultImport row) {
+            TestCase.Status status = parseStatus(row.getStatus());
+            if (status == null || row.getTestCaseName() == null || row.getTestCaseName().isBlank()) {
+                rejected++;
+                return;
+            }
+            batch.add(new PendingRow(new TestKey(row.getTestCaseName(), row.getModule()), row.getDuration(), status));
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public void reject() {
+            rejected++;
+        }
+
+        long imported() {
+            return inserted + updated + unchanged + duplicates;
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            // A test listed twice in one batch keeps its last row, as if the
+            // rows had been applied one after another.
+            Map<TestKey, PendingRow> rows = new LinkedHashMap<>();
+            for (PendingRow row : batch) {
+                rows.put(row.test(), row);
+            }
+            Map<TestKey, Long> ids = testDefinitions.resolve(rows.keySet());
+
+            long[] deltas = new long[committedDeltas.length];
+            if (mode == ImportMode.UPSERT) {
+                transactionTemplate.executeWithoutResult(tx -> upsert(rows.values(), ids, deltas));
+            } else {
+                try {
+                    transactionTemplate.executeWithoutResult(tx -> insert(rows.values(), ids, deltas));
+                } catch (DuplicateKeyException e) {
+                    throw new RuntimeException("Build " + buildId + " already has results for some of these tests; "
+                            + imported() + " rows were imported before the conflict. Use mode=UPSERT to merge them", e);
+                }
+            }
+            duplicates += batch.size() - rows.size();
+            for (int i = 0; i < deltas.length; i++) {
+                committedDeltas[i] += deltas[i];
+            }
+            batches++;
+            batch.clear();
+            listener.onBatchCommitted(imported(), rejected);
+        }
+
+        private void insert(Collection<PendingRow> rows, Map<TestKey, Long> ids, long[] deltas) {
+            List<Object[]> args = new ArrayList<>(rows.size());
+            List<ResultEntry> history = new ArrayList<>(rows.size());
+            for (PendingRow row : rows) {
+                Long testId = ids.get(row.test());
+                args.add(new Object[] { testId, row.duration(), row.status().name(), buildId });
+                history.add(new ResultEntry(testId, row.status(), row.duration()));
+                deltas[row.status().ordinal()]++;
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, args);
+            flakinessChanged.addAll(historyStore.recordResults(buildId, history));
+            inserted += rows.size();
+        }
+
+        private void upsert(Collection<PendingRow> rows, Map<TestKey, Long> ids, long[] deltas) {
+            Map<Long, StoredRow> existing = findExisting(ids.values());
+
+            List<Object> args = new ArrayList<>(rows.size() * 4);
+            List<ResultEntry> history = new ArrayList<>();
+            int changed = 0;
+            for (PendingRow row : rows) {
+                Long testId = ids.get(row.test());
+                StoredRow current = existing.get(testId);
+                if (current == null) {
+                    inserted++;
+                } else if (Objects.equals(current.duration(), row.duration()) && current.status() == row.status()) {
+                    unchanged++;
+                    continue;
+                } else {
+                    updated++;
+                    if (current.status() != null) {
+                        deltas[current.status().ordinal()]--;
+                    }
+                }
+                deltas[row.status().ordinal()]++;
+                Collections.addAll(args, testId, row.duration(), row.status().name(), buildId);
+                history.add(new ResultEntry(testId, row.status(), row.duration()));
+                changed++;
+            }
+
+            if (changed > 0) {
+                StringBuilder sql = new StringBuilder(UPSERT_PREFIX.length() + changed * 15 + UPSERT_SUFFIX.length());
+                sql.append(UPSERT_PREFIX);
+                for (int i = 0; i < changed; i++) {
+                    sql.append(i == 0 ? "(?, ?, ?, ?)" : ", (?, ?, ?, ?)");
+                }
+                sql.append(UPSERT_SUFFIX);
+                jdbcTemplate.update(sql.toString(), args.toArray());
+                flakinessChanged.addAll(historyStore.recordResults(buildId, history));
+            }
+        }
+
+        private Map<Long, StoredRow> findExisting(Iterable<Long> testIds) {
+            List<Object> args = new ArrayList<>();
+            args.add(buildId);
+            StringBuilder sql = new StringBuilder(EXISTING_PREFIX);
+            for (Long testId : testIds) {
+                sql.append(args.size() == 1 ? "?" : ", ?");
+                args.add(testId);
+            }
+            sql.append(')');
+
+            Map<Long, StoredRow> existing = new HashMap<>();
+            jdbcTemplate.query(sql.toString(), rs -> {
+                String status = rs.getString("status");
+                double durationValue = rs.getDouble("duration");
+                Double duration = rs.wasNull() ? null : durationValue;
+                existing.put(rs.getLong("test_id"), new StoredRow(duration,
+                        status != null ? TestCase.Status.valueOf(status) : null));
+            }, args.toArray());
+            return existing;
+        }
+    }
+}
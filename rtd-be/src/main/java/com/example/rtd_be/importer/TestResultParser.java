@@ -0,0 +1,9 @@
+package com.example.rtd_be.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface TestResultParser {
+    boolean supports(String filename);
+    void parse(InputStream in, TestResultSink sink) throws IOException;
+}
@@ -0,0 +1,8 @@
+package com.example.rtd_be.importer;
+
+import com.example.rtd_be.dto.TestResultImport;
+
+public interface TestResultSink {
+    void accept(TestResultImport row);
+    void reject();
+}
@@ -0,0 +1,285 @@
+package com.example.rtd_be.live;
+
+import com.example.rtd_be.config.WorkerThreads;
+import com.example.rtd_be.dto.DashboardStats;
+import com.example.rtd_be.dto.ImportJob;
+import com.example.rtd_be.dto.RegressionRunSummary;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans events out to SSE subscribers. Each event is serialized once and queued
+ * per subscriber; a small fixed pool of dispatch threads drains the queues, so
+ * connections hold no thread while idle and slow clients never add threads. A
+ * newer stats or import event replaces a pending one. A subscriber whose queue
+ * fills up has fallen behind and is disconnected rather than written to; the
+ * browser reconnects and starts over from the current stats. A subscriber
+ * whose write stays blocked for longer than app.live.send-timeout is
+ * disconnected as well and gives up its slot; the dispatch thread comes back
+ * once the container times the write out.
+ */
+@Component
+public class LiveEventBroadcaster {
+
+    public static final String STATS = "stats";
+    public static final String REGRESSION_RUN = "regression-run";
+    public static final String IMPORT = "import";
+
+    private static final int MAX_EVENTS_PER_DRAIN = 32;
+
+    private final ObjectMapper objectMapper;
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService heartbeat;
+
+    public LiveEventBroadcaster(ObjectMapper objectMapper,
+                                WorkerThreads workerThreads,
+                                @Value("${app.live.max-subscribers:5000}") int maxSubscribers,
+                                @Value("${app.live.buffer-size:64}") int bufferSize,
+                                @Value("${app.live.timeout:30m}") Duration timeout,
+                                @Value("${app.live.heartbeat:15s}") Duration heartbeatInterval,
+                                @Value("${app.live.dispatch-threads:4}") int dispatchThreads,
+                                @Value("${app.live.send-timeout:10s}") Duration sendTimeout) {
+        this.objectMapper = objectMapper;
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = Math.max(bufferSize, 1);
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+
+        this.dispatcher = Executors.newFixedThreadPool(Math.max(dispatchThreads, 1),
+                workerThreads.blocking("live-dispatch-"));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(workerThreads.platform("live-heartbeat-"));
+        long intervalMillis = heartbeatInterval.toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        long checkMillis = Math.max(sendTimeout.toMillis() / 2, 100);
+        heartbeat.scheduleAtFixedRate(this::evictStalled, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /** Returns null when the subscriber limit has been reached. */
+    public SseEmitter subscribe(DashboardStats initialStats) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscribers.add(subscriber);
+        subscriber.offer(event(STATS, STATS, initialStats));
+        return emitter;
+    }
+
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public void publishStats(DashboardStats stats) {
+        publish(STATS, STATS, stats);
+    }
+
+    public void publishRegressionRun(RegressionRunSummary run) {
+        publish(REGRESSION_RUN, null, run);
+    }
+
+    public void publishImport(ImportJob job) {
+        publish(IMPORT, IMPORT + ":" + job.getJobId(), job);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void publish(String type, String key, Object payload) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Event event = event(type, key, payload);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    private void sendHeartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Event event = new Event("heartbeat", SseEmitter.event().comment("heartbeat").build());
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    private void evictStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedAt;
+            if (started != 0 && now - started > sendTimeoutNanos) {
+                subscriber.fail(new IOException("Send blocked for longer than "
+                        + TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos) + " ms"));
+            }
+        }
+    }
+
+    private Event event(String type, String key, Object payload) {
+        try {
+            String data = objectMapper.writeValueAsString(payload);
+            return new Event(key, SseEmitter.event().name(type).data(data).build());
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize " + type + " event", e);
+        }
+    }
+
+    private record Event(String key, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+    }
+
+    /**
+     * Only a dispatch thread touches the emitter once the subscriber is live:
+     * the emitter locks around writes, so completing it from a publishing or
+     * watchdog thread would wait out a stalled write. Disconnecting marks the
+     * subscriber closed and leaves the completion to its next drain.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final ArrayDeque<Event> queue = new ArrayDeque<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile Exception failure;
+        private volatile long sendStartedAt;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(Event event) {
+            boolean behind = false;
+            synchronized (queue) {
+                if (event.key() != null) {
+                    Iterator<Event> it = queue.iterator();
+                    while (it.hasNext()) {
+                        if (event.key().equals(it.next().key())) {
+                            it.remove();
+                            break;
+                        }
+                    }
+                }
+                if (queue.size() >= bufferSize) {
+                    behind = true;
+                } else {
+                    queue.addLast(event);
+                }
+            }
+            if (behind) {
+                fail(new IOException("Subscriber fell more than " + bufferSize + " events behind"));
+            } else {
+                schedule();
+            }
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                subscriberCount.decrementAndGet();
+                synchronized (queue) {
+                    queue.clear();
+                }
+            }
+        }
+
+        void fail(Exception error) {
+            if (failure == null) {
+                failure = error;
+            }
+            close();
+            dispatch();
+        }
+
+        private void schedule() {
+            if (!closed.get()) {
+                dispatch();
+            }
+        }
+
+        private void dispatch() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    close();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                for (int sent = 0; sent < MAX_EVENTS_PER_DRAIN && !closed.get(); sent++) {
+                    Event event;
+                    synchronized (queue) {
+                        event = queue.pollFirst();
+                    }
+                    if (event == null) {
+                        break;
+                    }
+                    sendStartedAt = System.nanoTime();
+                    emitter.send(event.frame());
+                    sendStartedAt = 0;
+                }
+            } catch (IOException | IllegalStateException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+                close();
+            } finally {
+                sendStartedAt = 0;
+                scheduled.set(false);
+            }
+            if (closed.get()) {
+                Exception error = failure;
+                if (error != null && completed.compareAndSet(false, true)) {
+                    emitter.completeWithError(error);
+                }
+                return;
+            }
+            boolean pending;
+            synchronized (queue) {
+                pending = !queue.isEmpty();
+            }
+            if (pending) {
+                schedule();
+            }
+        }
+    }
+}
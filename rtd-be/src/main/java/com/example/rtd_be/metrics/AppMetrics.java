@@ -0,0 +1,41 @@
+package com.example.rtd_be.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AppMetrics {
+
+    public static final String SERVICE_TIMER = "rtd.service";
+
+    private final DistributionSummary importThroughput;
+    private final DistributionSummary importRows;
+    private final DistributionSummary compareSize;
+
+    public AppMetrics(MeterRegistry meterRegistry) {
+        this.importThroughput = DistributionSummary.builder("rtd.import.rows.per.second")
+                .description("Rows imported per second, per completed import")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.importRows = DistributionSummary.builder("rtd.import.rows")
+                .description("Rows imported per completed import")
+                .baseUnit("rows")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.compareSize = DistributionSummary.builder("rtd.compare.size")
+                .description("Rows returned per build comparison")
+                .baseUnit("rows")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public void recordImport(long rows, double rowsPerSecond) {
+        importRows.record(rows);
+        importThroughput.record(rowsPerSecond);
+    }
+
+    public void recordComparison(int rows) {
+        compareSize.record(rows);
+    }
+}
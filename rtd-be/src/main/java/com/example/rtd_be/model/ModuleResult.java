@@ -0,0 +1,16 @@
+package com.example.rtd_be.model;
+
+import jakarta.persistence.Embeddable;
+import lombok.Data;
+
+@Embeddable
+@Data
+public class ModuleResult {
+    private String module;
+    private int totalTests;
+    private int passed;
+    private int failed;
+    private int blocked;
+    private int pending;
+    private double totalDuration;
+}
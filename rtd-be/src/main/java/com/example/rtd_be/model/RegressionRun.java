@@ -2,10 +2,14 @@ package com.example.rtd_be.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.BatchSize;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
-@Table(name = "regression_runs")
+@Table(name = "regression_runs",
+        indexes = @Index(name = "idx_regression_runs_build_executed", columnList = "build_id, executed_at"))
 @Data
 public class RegressionRun {
     @Id
@@ -19,5 +23,13 @@ public class RegressionRun {
     private Integer totalTests;
     private Integer passed;
     private Integer failed;
+    private Integer blocked;
+    private Integer pending;
+    private Double totalDuration;
     private LocalDateTime executedAt = LocalDateTime.now();
+
+    @ElementCollection
+    @CollectionTable(name = "regression_run_modules", joinColumns = @JoinColumn(name = "run_id"))
+    @BatchSize(size = 50)
+    private List<ModuleResult> modules = new ArrayList<>();
 }
@@ -1,23 +1,30 @@
 package com.example.rtd_be.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
 
 @Entity
-@Table(name = "test_cases")
+@Table(name = "test_cases",
+        uniqueConstraints = @UniqueConstraint(name = "uk_test_cases_build_test", columnNames = {"build_id", "test_id"}),
+        indexes = {
+                @Index(name = "idx_test_cases_status", columnList = "status"),
+                @Index(name = "idx_test_cases_build_id", columnList = "build_id, id"),
+                @Index(name = "idx_test_cases_build_test_status", columnList = "build_id, test_id, status, duration")
+        })
 @Data
 public class TestCase {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false)
-    private String name;
+    @JsonIgnore
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "test_id", nullable = false)
+    private TestDefinition definition;
 
     private String description;
     
-    private String module;
-    
     private Double duration;
 
     @Enumerated(EnumType.STRING)
@@ -27,6 +34,14 @@ public class TestCase {
     @JoinColumn(name = "build_id")
     private Build build;
 
+    public String getName() {
+        return definition != null ? definition.getName() : null;
+    }
+
+    public String getModule() {
+        return definition != null ? definition.getModule() : null;
+    }
+
     public enum Status {
         PASS, FAIL, BLOCKED, PENDING
     }
@@ -0,0 +1,26 @@
+package com.example.rtd_be.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+@Entity
+@Immutable
+@Table(name = "test_definitions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_test_definitions_name_module",
+                columnNames = {"name", "module_key"}))
+@Data
+public class TestDefinition {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    private String module;
+
+    /** Generated from module so that a null module takes part in the unique key. */
+    @Column(name = "module_key", insertable = false, updatable = false)
+    private String moduleKey;
+}
@@ -0,0 +1,30 @@
+package com.example.rtd_be.persistence;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import javax.sql.DataSource;
+
+/** Routes the application's DataSource through a proxy that reports every statement to the tracker. */
+@Component
+public class DataSourceProxyPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<StatementTracker> statementTracker;
+
+    public DataSourceProxyPostProcessor(ObjectProvider<StatementTracker> statementTracker) {
+        this.statementTracker = statementTracker;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(statementTracker.getObject())
+                    .build();
+        }
+        return bean;
+    }
+}
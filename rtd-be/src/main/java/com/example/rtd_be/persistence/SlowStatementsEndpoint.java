@@ -0,0 +1,27 @@
+package com.example.rtd_be.persistence;
+
+import com.example.rtd_be.dto.SlowStatement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+@Component
+@Endpoint(id = "slowstatements")
+@RequiredArgsConstructor
+public class SlowStatementsEndpoint {
+
+    private final StatementTracker statementTracker;
+
+    @ReadOperation
+    public List<SlowStatement> slowest() {
+        return statementTracker.getSlowest();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statementTracker.resetSlowest();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.rtd_be.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import java.io.IOException;
+
+/**
+ * Counts the statements each HTTP request runs on its request thread, records
+ * them per endpoint and flags requests that run too many statements or repeat
+ * the same statement shape, the usual sign of an N+1 load.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    private final StatementTracker statementTracker;
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final int maxRepeats;
+
+    public StatementCountFilter(StatementTracker statementTracker,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.persistence.max-statements:50}") int maxStatements,
+                                @Value("${app.persistence.max-repeats:10}") int maxRepeats) {
+        this.statementTracker = statementTracker;
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementScope scope = statementTracker.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            record(request, scope);
+        }
+    }
+
+    private void record(HttpServletRequest request, StatementScope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("rtd.http.statements")
+                .description("JDBC statements run per HTTP request")
+                .baseUnit("statements")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(scope.getStatements());
+
+        boolean tooMany = scope.getStatements() > maxStatements;
+        boolean repeated = scope.getMostRepeatedCount() > maxRepeats;
+        if (tooMany) {
+            flag(method, uri, "statements");
+        }
+        if (repeated) {
+            flag(method, uri, "repeated");
+        }
+        if (tooMany || repeated) {
+            log.warn("{} {} ran {} statements in {} ms; most repeated ({}x): {}", method, uri,
+                    scope.getStatements(), scope.getElapsedMillis(), scope.getMostRepeatedCount(),
+                    scope.getMostRepeated());
+        }
+    }
+
+    private void flag(String method, String uri, String reason) {
+        Counter.builder("rtd.http.statements.flagged")
+                .description("HTTP requests over the statement count or repeated-statement threshold")
+                .tags("method", method, "uri", uri, "reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
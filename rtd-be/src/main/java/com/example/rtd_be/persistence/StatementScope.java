@@ -0,0 +1,63 @@
+package com.example.rtd_be.persistence;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Statements executed on one thread between {@link StatementTracker#open()}
+ * and {@link #close()}, e.g. during one HTTP request.
+ */
+public final class StatementScope implements AutoCloseable {
+
+    private final StatementScope previous;
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private int statements;
+    private long elapsedMillis;
+    private String mostRepeated;
+    private int mostRepeatedCount;
+    private boolean closed;
+
+    StatementScope(StatementScope previous) {
+        this.previous = previous;
+    }
+
+    void record(String shape, long elapsedMillis) {
+        statements++;
+        this.elapsedMillis += elapsedMillis;
+        int count = shapes.merge(shape, 1, Integer::sum);
+        if (count > mostRepeatedCount) {
+            mostRepeated = shape;
+            mostRepeatedCount = count;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /** The normalized statement executed most often, or null when nothing ran. */
+    public String getMostRepeated() {
+        return mostRepeated;
+    }
+
+    public int getMostRepeatedCount() {
+        return mostRepeatedCount;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (previous != null) {
+            StatementTracker.CURRENT.set(previous);
+        } else {
+            StatementTracker.CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.rtd_be.persistence;
+
+import com.example.rtd_be.dto.SlowStatement;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Sees every JDBC statement, from Hibernate and JdbcTemplate alike, through the
+ * datasource proxy. Counts them into the calling thread's open
+ * {@link StatementScope} and keeps the slowest statement shapes, keyed by SQL
+ * with literals and IN / VALUES lists collapsed.
+ */
+@Slf4j
+@Component
+public class StatementTracker implements QueryExecutionListener {
+
+    static final ThreadLocal<StatementScope> CURRENT = new ThreadLocal<>();
+
+    private static final int MAX_SHAPE_LENGTH = 1000;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern ROW_LIST = Pattern.compile("\\(\\?\\.\\.\\.\\)(?:\\s*,\\s*\\(\\?\\.\\.\\.\\))+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final long slowMillis;
+    private final int slowestSize;
+    private final Map<String, SlowStatement> slowest = new HashMap<>();
+    private volatile long slowestFloor;
+
+    public StatementTracker(@Value("${app.persistence.slow-statement:500ms}") Duration slowStatement,
+                            @Value("${app.persistence.slowest-size:20}") int slowestSize) {
+        this.slowMillis = slowStatement.toMillis();
+        this.slowestSize = Math.max(slowestSize, 1);
+    }
+
+    /** Starts counting statements run on this thread until the scope is closed. */
+    public StatementScope open() {
+        StatementScope scope = new StatementScope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty()) {
+            return;
+        }
+        StatementScope scope = CURRENT.get();
+        long elapsedMillis = execInfo.getElapsedTime();
+        if (scope == null && elapsedMillis <= slowestFloor && elapsedMillis < slowMillis) {
+            return;
+        }
+
+        String shape = normalize(queryInfoList.get(0).getQuery());
+        if (scope != null) {
+            scope.record(shape, elapsedMillis);
+        }
+        if (elapsedMillis >= slowMillis) {
+            log.warn("Slow statement ({} ms{}): {}", elapsedMillis,
+                    execInfo.isBatch() ? ", batch of " + execInfo.getBatchSize() : "", shape);
+        }
+        if (elapsedMillis > slowestFloor) {
+            recordSlowest(shape, elapsedMillis);
+        }
+    }
+
+    public List<SlowStatement> getSlowest() {
+        List<SlowStatement> statements = new ArrayList<>();
+        synchronized (slowest) {
+            for (SlowStatement statement : slowest.values()) {
+                statements.add(new SlowStatement(statement.getSql(), statement.getCount(),
+                        statement.getMaxMillis(), statement.getTotalMillis()));
+            }
+        }
+        statements.sort(Comparator.comparingLong(SlowStatement::getMaxMillis).reversed());
+        return statements;
+    }
+
+    public void resetSlowest() {
+        synchronized (slowest) {
+            slowest.clear();
+            slowestFloor = 0;
+        }
+    }
+
+    static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("(?...)");
+        shape = ROW_LIST.matcher(shape).replaceAll("(?...)");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) : shape;
+    }
+
+    private void recordSlowest(String shape, long elapsedMillis) {
+        synchronized (slowest) {
+            SlowStatement statement = slowest.get(shape);
+            if (statement != null) {
+                statement.setCount(statement.getCount() + 1);
+                statement.setTotalMillis(statement.getTotalMillis() + elapsedMillis);
+                statement.setMaxMillis(Math.max(statement.getMaxMillis(), elapsedMillis));
+            } else {
+                slowest.put(shape, new SlowStatement(shape, 1, elapsedMillis, elapsedMillis));
+                if (slowest.size() > slowestSize) {
+                    slowest.values().stream()
+                            .min(Comparator.comparingLong(SlowStatement::getMaxMillis))
+                            .ifPresent(fastest -> slowest.remove(fastest.getSql()));
+                }
+            }
+            if (slowest.size() >= slowestSize) {
+                slowestFloor = slowest.values().stream().mapToLong(SlowStatement::getMaxMillis).min().orElse(0);
+            }
+        }
+    }
+}
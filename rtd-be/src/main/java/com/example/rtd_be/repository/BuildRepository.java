@@ -1,7 +1,11 @@
 package com.example.rtd_be.repository;
 
 import com.example.rtd_be.model.Build;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface BuildRepository extends JpaRepository<Build, Long> {
+    Slice<Build> findByIdGreaterThan(Long id, Pageable pageable);
+    Slice<Build> findByIdLessThan(Long id, Pageable pageable);
 }
@@ -1,9 +1,24 @@
 package com.example.rtd_be.repository;
 
+import com.example.rtd_be.dto.RegressionRunSummary;
 import com.example.rtd_be.model.RegressionRun;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface RegressionRunRepository extends JpaRepository<RegressionRun, Long> {
-    List<RegressionRun> findByBuildIdOrderByExecutedAtDesc(Long buildId);
+    String SUMMARY = "SELECT new com.example.rtd_be.dto.RegressionRunSummary(r.id, b.id, b.version, r.totalTests, " +
+            "r.passed, r.failed, r.blocked, r.pending, r.totalDuration, r.executedAt) FROM RegressionRun r JOIN r.build b ";
+
+    @Query(SUMMARY + "WHERE b.id = :buildId ORDER BY r.executedAt DESC")
+    List<RegressionRunSummary> findSummariesByBuildId(@Param("buildId") Long buildId);
+
+    @Query(SUMMARY + "WHERE r.id > :id")
+    Slice<RegressionRunSummary> findSummariesByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY + "WHERE r.id < :id")
+    Slice<RegressionRunSummary> findSummariesByIdLessThan(@Param("id") Long id, Pageable pageable);
 }
@@ -1,10 +1,54 @@
 package com.example.rtd_be.repository;
 
+import com.example.rtd_be.dto.ComparisonRow;
+import com.example.rtd_be.dto.ModuleStatusCount;
+import com.example.rtd_be.dto.StatusCount;
+import com.example.rtd_be.dto.TestCaseSummary;
 import com.example.rtd_be.model.TestCase;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TestCaseRepository extends JpaRepository<TestCase, Long> {
+    String SUMMARY = "SELECT new com.example.rtd_be.dto.TestCaseSummary(tc.id, d.name, tc.description, d.module, " +
+            "tc.duration, tc.status, b.id, b.version) FROM TestCase tc JOIN tc.definition d LEFT JOIN tc.build b ";
+
     List<TestCase> findByBuildId(Long buildId);
     long countByStatus(TestCase.Status status);
+
+    @Query(SUMMARY + "WHERE tc.id > :id")
+    Slice<TestCaseSummary> findSummariesByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY + "WHERE tc.id < :id")
+    Slice<TestCaseSummary> findSummariesByIdLessThan(@Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY + "WHERE b.id = :buildId AND tc.id > :id")
+    Slice<TestCaseSummary> findSummariesByBuildIdAndIdGreaterThan(@Param("buildId") Long buildId,
+                                                                 @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY + "WHERE b.id = :buildId AND tc.id < :id")
+    Slice<TestCaseSummary> findSummariesByBuildIdAndIdLessThan(@Param("buildId") Long buildId,
+                                                              @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT tc.status AS status, COUNT(tc) AS count FROM TestCase tc GROUP BY tc.status")
+    List<StatusCount> countGroupByStatus();
+
+    @Query("SELECT d.module AS module, tc.status AS status, COUNT(tc) AS count, SUM(tc.duration) AS totalDuration " +
+           "FROM TestCase tc JOIN tc.definition d WHERE tc.build.id = :buildId GROUP BY d.module, tc.status")
+    List<ModuleStatusCount> countByModuleAndStatus(@Param("buildId") Long buildId);
+
+    @Query("SELECT new com.example.rtd_be.dto.ComparisonRow(d.name, d.module, tc.status, tc.duration) " +
+           "FROM TestCase tc JOIN tc.definition d WHERE tc.build.id = :buildId ORDER BY d.name, d.module")
+    List<ComparisonRow> findComparisonRows(@Param("buildId") Long buildId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(SUMMARY + "WHERE b.id = :buildId ORDER BY tc.id")
+    Stream<TestCaseSummary> streamByBuildId(@Param("buildId") Long buildId);
 }
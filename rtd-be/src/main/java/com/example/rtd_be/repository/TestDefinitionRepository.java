@@ -0,0 +1,7 @@
+package com.example.rtd_be.repository;
+
+import com.example.rtd_be.model.TestDefinition;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TestDefinitionRepository extends JpaRepository<TestDefinition, Long> {
+}
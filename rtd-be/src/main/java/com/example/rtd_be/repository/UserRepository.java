@@ -1,6 +1,8 @@
 package com.example.rtd_be.repository;
 
 import com.example.rtd_be.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.Optional;
 
@@ -9,4 +11,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+    Slice<User> findByIdGreaterThan(Long id, Pageable pageable);
+    Slice<User> findByIdLessThan(Long id, Pageable pageable);
 }
@@ -18,6 +18,8 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
     
+    private static final WebAuthenticationDetailsSource DETAILS_SOURCE = new WebAuthenticationDetailsSource();
+    
     private final JwtUtil jwtUtil;
     
     @Override
@@ -29,13 +31,13 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
             
-            if (jwtUtil.validateToken(token)) {
-                String username = jwtUtil.extractUsername(token);
-                String role = jwtUtil.extractRole(token);
-                
+            JwtPrincipal principal = jwtUtil.parseToken(token);
+            
+            if (principal != null) {
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        username, null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        principal.username(), null,
+                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + principal.role())));
+                authentication.setDetails(DETAILS_SOURCE.buildDetails(request));
                 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
@@ -0,0 +1,8 @@
+package com.example.rtd_be.security;
+
+public record JwtPrincipal(String username, String role, long expiresAtMillis) {
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -6,18 +6,35 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import java.security.Key;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Issues and verifies tokens. A verified token's principal is cached until the
+ * token expires so the auth filter checks each signature once; the cache is a
+ * concurrent map, read without locks, that drops expired tokens and then
+ * arbitrary ones once it grows past jwt.cache-size.
+ */
 @Component
 public class JwtUtil {
     
-    @Value("${jwt.secret}")
-    private String secret;
+    private final Long expiration;
+    private final int cacheSize;
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final ConcurrentHashMap<String, JwtPrincipal> verifiedTokens = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
     
-    @Value("${jwt.expiration}")
-    private Long expiration;
-    
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.expiration}") Long expiration,
+                   @Value("${jwt.cache-size:10000}") int cacheSize) {
+        this.expiration = expiration;
+        this.cacheSize = Math.max(cacheSize, 1);
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
     
     public String generateToken(String username, String role) {
@@ -26,32 +43,56 @@ public class JwtUtil {
                 .claim("role", role)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
     
-    public String extractUsername(String token) {
-        return extractClaims(token).getSubject();
+    public JwtPrincipal parseToken(String token) {
+        long now = System.currentTimeMillis();
+        JwtPrincipal cached = verifiedTokens.get(token);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            verifiedTokens.remove(token, cached);
+            return null;
+        }
+        
+        JwtPrincipal principal;
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Date expiresAt = claims.getExpiration();
+            principal = new JwtPrincipal(claims.getSubject(), claims.get("role", String.class),
+                    expiresAt != null ? expiresAt.getTime() : now + expiration);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        
+        verifiedTokens.put(token, principal);
+        if (verifiedTokens.size() > cacheSize) {
+            evict(now);
+        }
+        return principal;
     }
     
-    public String extractRole(String token) {
-        return extractClaims(token).get("role", String.class);
+    int cachedTokens() {
+        return verifiedTokens.size();
     }
     
-    public boolean validateToken(String token) {
+    /** One thread trims at a time; the others carry on rather than wait for it. */
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
         try {
-            extractClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            verifiedTokens.values().removeIf(principal -> principal.isExpired(now));
+            Iterator<String> it = verifiedTokens.keySet().iterator();
+            while (verifiedTokens.size() > cacheSize && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        } finally {
+            evicting.set(false);
         }
     }
-    
-    private Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
 }
@@ -1,14 +1,17 @@
 package com.example.rtd_be.service;
 
 import com.example.rtd_be.dto.*;
+import com.example.rtd_be.metrics.AppMetrics;
 import com.example.rtd_be.model.User;
 import com.example.rtd_be.repository.UserRepository;
 import com.example.rtd_be.security.JwtUtil;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed(value = AppMetrics.SERVICE_TIMER, histogram = true)
 @RequiredArgsConstructor
 public class AuthService {
     
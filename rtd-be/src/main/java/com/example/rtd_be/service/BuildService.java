@@ -1,20 +1,39 @@
 package com.example.rtd_be.service;
 
+import com.example.rtd_be.analytics.BuildResultStore;
+import com.example.rtd_be.compare.ComparisonCache;
 import com.example.rtd_be.dto.BuildRequest;
+import com.example.rtd_be.dto.CursorPage;
+import com.example.rtd_be.dto.CursorRequest;
+import com.example.rtd_be.history.TestDefinitions;
+import com.example.rtd_be.history.TestHistoryStore;
+import com.example.rtd_be.metrics.AppMetrics;
 import com.example.rtd_be.model.Build;
 import com.example.rtd_be.repository.BuildRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
-import java.util.List;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Set;
 
 @Service
+@Timed(value = AppMetrics.SERVICE_TIMER, histogram = true)
 @RequiredArgsConstructor
 public class BuildService {
     
     private final BuildRepository buildRepository;
+    private final DashboardService dashboardService;
+    private final ComparisonCache comparisonCache;
+    private final BuildResultStore buildResultStore;
+    private final TestHistoryStore historyStore;
+    private final TestDefinitions testDefinitions;
     
-    public List<Build> getAllBuilds() {
-        return buildRepository.findAll();
+    public CursorPage<Build> getAllBuilds(CursorRequest page) {
+        Slice<Build> slice = page.isAscending()
+                ? buildRepository.findByIdGreaterThan(page.cursor(), page.toPageable())
+                : buildRepository.findByIdLessThan(page.cursor(), page.toPageable());
+        return CursorPage.of(slice, Build::getId);
     }
     
     public Build getBuildById(Long id) {
@@ -29,7 +48,9 @@ public class BuildService {
         if (request.getCreatedAt() != null) {
             build.setCreatedAt(request.getCreatedAt());
         }
-        return buildRepository.save(build);
+        Build saved = buildRepository.save(build);
+        dashboardService.recordBuildsChanged(1);
+        return saved;
     }
     
     public Build updateBuild(Long id, BuildRequest request) {
@@ -39,7 +60,20 @@ public class BuildService {
         return buildRepository.save(build);
     }
     
+    @Transactional
     public void deleteBuild(Long id) {
-        buildRepository.deleteById(id);
+        buildRepository.findById(id).ifPresent(build -> {
+            buildRepository.delete(build);
+            Set<Long> flakinessChanged = historyStore.removeBuild(id);
+            Set<String> flakyNames = flakinessChanged.isEmpty()
+                    ? Set.of()
+                    : testDefinitions.findNames(flakinessChanged);
+            AfterCommit.run(() -> {
+                dashboardService.recordBuildsChanged(-1);
+                comparisonCache.invalidateBuild(id);
+                comparisonCache.invalidateTests(flakyNames);
+                buildResultStore.invalidateBuild(id);
+            });
+        });
     }
 }
@@ -1,27 +1,136 @@
 package com.example.rtd_be.service;
 
 import com.example.rtd_be.dto.DashboardStats;
+import com.example.rtd_be.dto.StatusCount;
+import com.example.rtd_be.live.LiveEventBroadcaster;
+import com.example.rtd_be.metrics.AppMetrics;
 import com.example.rtd_be.model.TestCase;
 import com.example.rtd_be.repository.BuildRepository;
 import com.example.rtd_be.repository.TestCaseRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
-@RequiredArgsConstructor
+@Timed(value = AppMetrics.SERVICE_TIMER, histogram = true)
 public class DashboardService {
     
+    private static final int STATUS_COUNT = TestCase.Status.values().length;
+    
     private final BuildRepository buildRepository;
     private final TestCaseRepository testCaseRepository;
+    private final LiveEventBroadcaster liveEventBroadcaster;
+    private final long maxStalenessNanos;
+    private final AtomicReference<StatsSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    
+    public DashboardService(BuildRepository buildRepository,
+                            TestCaseRepository testCaseRepository,
+                            LiveEventBroadcaster liveEventBroadcaster,
+                            @Value("${app.dashboard.stats-max-staleness:30s}") Duration maxStaleness) {
+        this.buildRepository = buildRepository;
+        this.testCaseRepository = testCaseRepository;
+        this.liveEventBroadcaster = liveEventBroadcaster;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+    }
     
     public DashboardStats getStats() {
-        long totalBuilds = buildRepository.count();
-        long totalTestCases = testCaseRepository.count();
-        long passedTests = testCaseRepository.countByStatus(TestCase.Status.PASS);
-        long failedTests = testCaseRepository.countByStatus(TestCase.Status.FAIL);
+        StatsSnapshot current = snapshot.get();
+        if (current == null) {
+            current = refresh();
+        } else if (System.nanoTime() - current.loadedAtNanos() > maxStalenessNanos
+                && refreshing.compareAndSet(false, true)) {
+            try {
+                current = refresh();
+            } finally {
+                refreshing.set(false);
+            }
+        }
+        return current.toStats();
+    }
+    
+    public void recordStatusChange(TestCase.Status from, TestCase.Status to) {
+        if (from == to) {
+            return;
+        }
+        long[] delta = new long[STATUS_COUNT];
+        if (from != null) {
+            delta[from.ordinal()]--;
+        }
+        if (to != null) {
+            delta[to.ordinal()]++;
+        }
+        applyDelta(0, delta);
+    }
+    
+    public void recordStatusDeltas(Map<TestCase.Status, Long> deltasByStatus) {
+        long[] delta = new long[STATUS_COUNT];
+        deltasByStatus.forEach((status, count) -> delta[status.ordinal()] += count);
+        applyDelta(0, delta);
+    }
+    
+    public void recordBuildsChanged(long delta) {
+        applyDelta(delta, new long[STATUS_COUNT]);
+    }
+    
+    public void invalidate() {
+        snapshot.set(null);
+        if (liveEventBroadcaster.hasSubscribers()) {
+            getStats();
+        }
+    }
+    
+    private void applyDelta(long buildDelta, long[] statusDelta) {
+        StatsSnapshot updated = snapshot.updateAndGet(
+                current -> current == null ? null : current.plus(buildDelta, statusDelta));
+        if (updated != null && liveEventBroadcaster.hasSubscribers()) {
+            liveEventBroadcaster.publishStats(updated.toStats());
+        }
+    }
+    
+    private StatsSnapshot refresh() {
+        long[] counts = new long[STATUS_COUNT];
+        for (StatusCount row : testCaseRepository.countGroupByStatus()) {
+            if (row.getStatus() != null) {
+                counts[row.getStatus().ordinal()] = row.getCount();
+            }
+        }
+        StatsSnapshot fresh = new StatsSnapshot(buildRepository.count(), counts,
+                System.nanoTime(), LocalDateTime.now());
+        snapshot.set(fresh);
+        if (liveEventBroadcaster.hasSubscribers()) {
+            liveEventBroadcaster.publishStats(fresh.toStats());
+        }
+        return fresh;
+    }
+    
+    private record StatsSnapshot(long totalBuilds, long[] statusCounts, long loadedAtNanos, LocalDateTime loadedAt) {
         
-        double passPercentage = totalTestCases > 0 ? (passedTests * 100.0 / totalTestCases) : 0;
+        StatsSnapshot plus(long buildDelta, long[] statusDelta) {
+            long[] counts = statusCounts.clone();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = Math.max(0, counts[i] + statusDelta[i]);
+            }
+            return new StatsSnapshot(Math.max(0, totalBuilds + buildDelta), counts, loadedAtNanos, loadedAt);
+        }
         
-        return new DashboardStats(totalBuilds, totalTestCases, passedTests, failedTests, passPercentage);
+        DashboardStats toStats() {
+            long total = 0;
+            for (long count : statusCounts) {
+                total += count;
+            }
+            long passed = statusCounts[TestCase.Status.PASS.ordinal()];
+            double passPercentage = total > 0 ? (passed * 100.0 / total) : 0;
+            return new DashboardStats(totalBuilds, total, passed,
+                    statusCounts[TestCase.Status.FAIL.ordinal()],
+                    statusCounts[TestCase.Status.BLOCKED.ordinal()],
+                    statusCounts[TestCase.Status.PENDING.ordinal()],
+                    passPercentage, loadedAt);
+        }
     }
 }
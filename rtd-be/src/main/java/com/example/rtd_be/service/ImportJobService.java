@@ -0,0 +1,139 @@
+package com.example.rtd_be.service;
+
+import com.example.rtd_be.config.WorkerThreads;
+import com.example.rtd_be.dto.ImportJob;
+import com.example.rtd_be.dto.ImportSummary;
+import com.example.rtd_be.importer.ImportMode;
+import com.example.rtd_be.live.LiveEventBroadcaster;
+import com.example.rtd_be.model.Build;
+import com.example.rtd_be.repository.BuildRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class ImportJobService {
+
+    private final BuildRepository buildRepository;
+    private final TestCaseService testCaseService;
+    private final LiveEventBroadcaster liveEventBroadcaster;
+    private final Path spoolDir;
+    private final Duration retention;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobService(BuildRepository buildRepository,
+                            TestCaseService testCaseService,
+                            LiveEventBroadcaster liveEventBroadcaster,
+                            WorkerThreads workerThreads,
+                            @Value("${app.upload-dir}") String uploadDir,
+                            @Value("${app.import.concurrency:2}") int concurrency,
+                            @Value("${app.import.queue-capacity:100}") int queueCapacity,
+                            @Value("${app.import.job-retention:1h}") Duration retention) throws IOException {
+        this.buildRepository = buildRepository;
+        this.testCaseService = testCaseService;
+        this.liveEventBroadcaster = liveEventBroadcaster;
+        this.spoolDir = Files.createDirectories(Paths.get(uploadDir, "imports").toAbsolutePath());
+        this.retention = retention;
+
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                workerThreads.blocking("import-worker-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public ImportJob submit(Long buildId, MultipartFile file, ImportMode mode) {
+        Build build = buildRepository.findById(buildId)
+                .orElseThrow(() -> new RuntimeException("Build not found"));
+        evictFinishedJobs();
+
+        String jobId = UUID.randomUUID().toString();
+        Path spoolFile = spoolDir.resolve(jobId);
+        try {
+            file.transferTo(spoolFile);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store upload: " + e.getMessage(), e);
+        }
+
+        ImportJob job = new ImportJob(jobId, buildId, file.getOriginalFilename(), mode, spoolFile);
+        jobs.put(jobId, job);
+        try {
+            executor.execute(() -> run(job, build));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(jobId);
+            deleteQuietly(spoolFile);
+            throw new RuntimeException("Import queue is full, try again later");
+        }
+        return job;
+    }
+
+    public ImportJob getJob(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new RuntimeException("Import job not found");
+        }
+        return job;
+    }
+
+    private void run(ImportJob job, Build build) {
+        job.setStartedAt(LocalDateTime.now());
+        job.setStatus(ImportJob.Status.RUNNING);
+        liveEventBroadcaster.publishImport(job);
+        long start = System.nanoTime();
+        ImportJob.Status finalStatus = ImportJob.Status.FAILED;
+        try (InputStream in = Files.newInputStream(job.getSpoolFile())) {
+            ImportSummary summary = testCaseService.importTestResults(build, job.getFilename(), in, job.getMode(),
+                    (imported, rejected) -> {
+                        job.setRowsProcessed(imported);
+                        job.setRowsRejected(rejected);
+                        long elapsedMillis = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+                        job.setRowsPerSecond(imported * 1000.0 / elapsedMillis);
+                        liveEventBroadcaster.publishImport(job);
+                    });
+            job.setRowsProcessed(summary.getRowsImported());
+            job.setRowsRejected(summary.getRowsRejected());
+            job.setRowsPerSecond(summary.getRowsPerSecond());
+            job.setSummary(summary);
+            finalStatus = ImportJob.Status.COMPLETED;
+        } catch (Exception e) {
+            job.setError(e.getMessage());
+        } finally {
+            deleteQuietly(job.getSpoolFile());
+            job.setFinishedAt(LocalDateTime.now());
+            job.setStatus(finalStatus);
+            liveEventBroadcaster.publishImport(job);
+        }
+    }
+
+    private void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,47 +1,109 @@
 package com.example.rtd_be.service;
 
+import com.example.rtd_be.analytics.BuildResultStore;
+import com.example.rtd_be.analytics.BuildResults;
+import com.example.rtd_be.dto.CursorPage;
+import com.example.rtd_be.dto.CursorRequest;
+import com.example.rtd_be.dto.ModuleStatusCount;
+import com.example.rtd_be.dto.RegressionRunSummary;
+import com.example.rtd_be.live.LiveEventBroadcaster;
+import com.example.rtd_be.metrics.AppMetrics;
 import com.example.rtd_be.model.Build;
+import com.example.rtd_be.model.ModuleResult;
 import com.example.rtd_be.model.RegressionRun;
 import com.example.rtd_be.model.TestCase;
 import com.example.rtd_be.repository.BuildRepository;
 import com.example.rtd_be.repository.RegressionRunRepository;
 import com.example.rtd_be.repository.TestCaseRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
+@Timed(value = AppMetrics.SERVICE_TIMER, histogram = true)
 @RequiredArgsConstructor
 public class RegressionRunService {
     
     private final RegressionRunRepository regressionRunRepository;
     private final TestCaseRepository testCaseRepository;
     private final BuildRepository buildRepository;
+    private final BuildResultStore buildResultStore;
+    private final LiveEventBroadcaster liveEventBroadcaster;
     
-    public List<RegressionRun> getAllRuns() {
-        return regressionRunRepository.findAll();
+    public CursorPage<RegressionRunSummary> getAllRuns(CursorRequest page) {
+        Slice<RegressionRunSummary> slice = page.isAscending()
+                ? regressionRunRepository.findSummariesByIdGreaterThan(page.cursor(), page.toPageable())
+                : regressionRunRepository.findSummariesByIdLessThan(page.cursor(), page.toPageable());
+        return CursorPage.of(slice, RegressionRunSummary::id);
     }
     
-    public List<RegressionRun> getRunsByBuild(Long buildId) {
-        return regressionRunRepository.findByBuildIdOrderByExecutedAtDesc(buildId);
+    public List<RegressionRunSummary> getRunsByBuild(Long buildId) {
+        return regressionRunRepository.findSummariesByBuildId(buildId);
     }
     
-    public RegressionRun executeRegressionRun(Long buildId) {
+    public RegressionRun getRunById(Long id) {
+        return regressionRunRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Regression run not found"));
+    }
+    
+    public RegressionRunSummary executeRegressionRun(Long buildId) {
         Build build = buildRepository.findById(buildId)
                 .orElseThrow(() -> new RuntimeException("Build not found"));
         
-        List<TestCase> testCases = testCaseRepository.findByBuildId(buildId);
-        
-        int total = testCases.size();
-        int passed = (int) testCases.stream().filter(tc -> tc.getStatus() == TestCase.Status.PASS).count();
-        int failed = (int) testCases.stream().filter(tc -> tc.getStatus() == TestCase.Status.FAIL).count();
-        
         RegressionRun run = new RegressionRun();
         run.setBuild(build);
+        
+        Map<String, ModuleResult> modules = new HashMap<>();
+        int total = 0;
+        int[] byStatus = new int[TestCase.Status.values().length];
+        double totalDuration = 0;
+        
+        BuildResults results = buildResultStore.get(buildId);
+        List<ModuleStatusCount> rows = results != null
+                ? results.countByModuleAndStatus()
+                : testCaseRepository.countByModuleAndStatus(buildId);
+        for (ModuleStatusCount row : rows) {
+            int count = (int) row.getCount();
+            double duration = row.getTotalDuration() != null ? row.getTotalDuration() : 0;
+            ModuleResult module = modules.computeIfAbsent(row.getModule(), name -> {
+                ModuleResult result = new ModuleResult();
+                result.setModule(name);
+                return result;
+            });
+            module.setTotalTests(module.getTotalTests() + count);
+            module.setTotalDuration(module.getTotalDuration() + duration);
+            if (row.getStatus() != null) {
+                byStatus[row.getStatus().ordinal()] += count;
+                switch (row.getStatus()) {
+                    case PASS -> module.setPassed(module.getPassed() + count);
+                    case FAIL -> module.setFailed(module.getFailed() + count);
+                    case BLOCKED -> module.setBlocked(module.getBlocked() + count);
+                    case PENDING -> module.setPending(module.getPending() + count);
+                }
+            }
+            total += count;
+            totalDuration += duration;
+        }
+        
         run.setTotalTests(total);
-        run.setPassed(passed);
-        run.setFailed(failed);
+        run.setPassed(byStatus[TestCase.Status.PASS.ordinal()]);
+        run.setFailed(byStatus[TestCase.Status.FAIL.ordinal()]);
+        run.setBlocked(byStatus[TestCase.Status.BLOCKED.ordinal()]);
+        run.setPending(byStatus[TestCase.Status.PENDING.ordinal()]);
+        run.setTotalDuration(totalDuration);
+        
+        List<ModuleResult> moduleResults = new ArrayList<>(modules.values());
+        moduleResults.sort(Comparator.comparing(ModuleResult::getModule, Comparator.nullsFirst(Comparator.naturalOrder())));
+        run.setModules(moduleResults);
         
-        return regressionRunRepository.save(run);
+        RegressionRunSummary saved = RegressionRunSummary.of(regressionRunRepository.save(run));
+        liveEventBroadcaster.publishRegressionRun(saved);
+        return saved;
     }
 }
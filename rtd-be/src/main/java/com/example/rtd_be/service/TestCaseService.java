@@ -1,35 +1,98 @@
 package com.example.rtd_be.service;
 
+import com.example.rtd_be.analytics.BuildResultStore;
+import com.example.rtd_be.analytics.BuildResults;
+import com.example.rtd_be.bulk.BulkAction;
+import com.example.rtd_be.bulk.TestCaseBulkExecutor;
+import com.example.rtd_be.compare.BuildComparator;
+import com.example.rtd_be.compare.ComparisonCache;
 import com.example.rtd_be.dto.TestCaseRequest;
-import com.example.rtd_be.dto.TestResultImport;
 import com.example.rtd_be.dto.BuildComparisonResult;
+import com.example.rtd_be.dto.BulkOperationResult;
+import com.example.rtd_be.dto.BulkTestCaseRequest;
+import com.example.rtd_be.dto.CursorPage;
+import com.example.rtd_be.dto.CursorRequest;
+import com.example.rtd_be.dto.DurationRegression;
+import com.example.rtd_be.dto.FlakyTest;
+import com.example.rtd_be.dto.ImportSummary;
+import com.example.rtd_be.dto.TestCaseSummary;
+import com.example.rtd_be.dto.TestHistory;
+import com.example.rtd_be.dto.StatusChange;
+import com.example.rtd_be.history.DurationStatsTracker;
+import com.example.rtd_be.history.FlakinessTracker;
+import com.example.rtd_be.history.ResultEntry;
+import com.example.rtd_be.history.TestDefinitions;
+import com.example.rtd_be.history.TestHistoryStore;
+import com.example.rtd_be.history.TestKey;
+import com.example.rtd_be.importer.ImportMode;
+import com.example.rtd_be.importer.ImportProgressListener;
+import com.example.rtd_be.importer.TestResultImporter;
+import com.example.rtd_be.metrics.AppMetrics;
 import com.example.rtd_be.model.Build;
 import com.example.rtd_be.model.TestCase;
+import com.example.rtd_be.model.TestDefinition;
 import com.example.rtd_be.repository.BuildRepository;
 import com.example.rtd_be.repository.TestCaseRepository;
+import com.example.rtd_be.repository.TestDefinitionRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.core.type.TypeReference;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.util.*;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = AppMetrics.SERVICE_TIMER, histogram = true)
 @RequiredArgsConstructor
 public class TestCaseService {
     
+    private static final int MAX_HISTORY_POINTS = 1000;
+    
     private final TestCaseRepository testCaseRepository;
     private final BuildRepository buildRepository;
+    private final TestDefinitionRepository testDefinitionRepository;
+    private final TestDefinitions testDefinitions;
+    private final TestResultImporter testResultImporter;
+    private final TestCaseBulkExecutor bulkExecutor;
+    private final DashboardService dashboardService;
+    private final BuildComparator buildComparator;
+    private final ComparisonCache comparisonCache;
+    private final BuildResultStore buildResultStore;
+    private final TestHistoryStore historyStore;
+    private final FlakinessTracker flakinessTracker;
+    private final DurationStatsTracker durationStatsTracker;
+    private final AppMetrics appMetrics;
+    
+    public CursorPage<TestCaseSummary> getAllTestCases(CursorRequest page) {
+        Slice<TestCaseSummary> slice = page.isAscending()
+                ? testCaseRepository.findSummariesByIdGreaterThan(page.cursor(), page.toPageable())
+                : testCaseRepository.findSummariesByIdLessThan(page.cursor(), page.toPageable());
+        applyFlakiness(slice.getContent());
+        return CursorPage.of(slice, TestCaseSummary::getId);
+    }
     
-    public List<TestCase> getAllTestCases() {
-        return testCaseRepository.findAll();
+    public CursorPage<TestCaseSummary> getTestCasesByBuild(Long buildId, CursorRequest page) {
+        Slice<TestCaseSummary> slice = page.isAscending()
+                ? testCaseRepository.findSummariesByBuildIdAndIdGreaterThan(buildId, page.cursor(), page.toPageable())
+                : testCaseRepository.findSummariesByBuildIdAndIdLessThan(buildId, page.cursor(), page.toPageable());
+        applyFlakiness(slice.getContent());
+        return CursorPage.of(slice, TestCaseSummary::getId);
     }
     
-    public List<TestCase> getTestCasesByBuild(Long buildId) {
-        return testCaseRepository.findByBuildId(buildId);
+    @Transactional(readOnly = true)
+    public void streamTestCasesByBuild(Long buildId, Consumer<TestCaseSummary> consumer) {
+        try (Stream<TestCaseSummary> testCases = testCaseRepository.streamByBuildId(buildId)) {
+            testCases.forEach(consumer);
+        }
     }
     
     public TestCase getTestCaseById(Long id) {
@@ -37,9 +100,10 @@ public class TestCaseService {
                 .orElseThrow(() -> new RuntimeException("Test case not found"));
     }
     
+    @Transactional
     public TestCase createTestCase(TestCaseRequest request) {
         TestCase testCase = new TestCase();
-        testCase.setName(request.getName());
+        testCase.setDefinition(definition(request.getName(), null));
         testCase.setDescription(request.getDescription());
         testCase.setStatus(request.getStatus() != null ? request.getStatus() : TestCase.Status.PENDING);
         
@@ -49,12 +113,26 @@ public class TestCaseService {
             testCase.setBuild(build);
         }
         
-        return testCaseRepository.save(testCase);
+        TestCase saved = testCaseRepository.save(testCase);
+        Set<String> flakyNames = testNames(recordHistory(saved));
+        AfterCommit.run(() -> {
+            dashboardService.recordStatusChange(null, saved.getStatus());
+            invalidateComparisons(saved);
+            comparisonCache.invalidateTests(flakyNames);
+        });
+        return saved;
     }
     
+    @Transactional
     public TestCase updateTestCase(Long id, TestCaseRequest request) {
         TestCase testCase = getTestCaseById(id);
-        testCase.setName(request.getName());
+        TestCase.Status previousStatus = testCase.getStatus();
+        TestDefinition previousDefinition = testCase.getDefinition();
+        Build previousBuild = testCase.getBuild();
+        if (!previousDefinition.getName().equals(request.getName())) {
+            // A rename keeps the module; the old definition and its history are left as they are.
+            testCase.setDefinition(definition(request.getName(), previousDefinition.getModule()));
+        }
         testCase.setDescription(request.getDescription());
         testCase.setStatus(request.getStatus());
         
@@ -64,115 +142,201 @@ public class TestCaseService {
             testCase.setBuild(build);
         }
         
-        return testCaseRepository.save(testCase);
+        TestCase saved = testCaseRepository.save(testCase);
+        Set<Long> flakinessChanged = new HashSet<>();
+        if (previousBuild != null && (!previousBuild.getId().equals(buildId(saved))
+                || !previousDefinition.getId().equals(saved.getDefinition().getId()))) {
+            flakinessChanged.addAll(historyStore.removeResults(previousBuild.getId(),
+                    List.of(previousDefinition.getId())));
+        }
+        flakinessChanged.addAll(recordHistory(saved));
+        Set<String> flakyNames = testNames(flakinessChanged);
+        AfterCommit.run(() -> {
+            dashboardService.recordStatusChange(previousStatus, saved.getStatus());
+            if (previousBuild != null) {
+                comparisonCache.invalidateBuild(previousBuild.getId());
+                buildResultStore.invalidateBuild(previousBuild.getId());
+            }
+            invalidateComparisons(saved);
+            comparisonCache.invalidateTests(flakyNames);
+        });
+        return saved;
     }
     
+    @Transactional
     public void deleteTestCase(Long id) {
-        testCaseRepository.deleteById(id);
+        testCaseRepository.findById(id).ifPresent(testCase -> {
+            testCaseRepository.delete(testCase);
+            Set<String> flakyNames = testCase.getBuild() != null
+                    ? testNames(historyStore.removeResults(testCase.getBuild().getId(),
+                            List.of(testCase.getDefinition().getId())))
+                    : Set.of();
+            AfterCommit.run(() -> {
+                dashboardService.recordStatusChange(testCase.getStatus(), null);
+                invalidateComparisons(testCase);
+                comparisonCache.invalidateTests(flakyNames);
+            });
+        });
     }
     
-    public List<TestCase> importTestResults(Long buildId, MultipartFile file) {
-        try {
-            Build build = buildRepository.findById(buildId)
-                    .orElseThrow(() -> new RuntimeException("Build not found"));
-            
-            List<TestResultImport> imports;
-            String filename = file.getOriginalFilename();
-            
-            if (filename != null && filename.toLowerCase().endsWith(".csv")) {
-                imports = parseCSV(file);
-            } else if (filename != null && filename.toLowerCase().endsWith(".json")) {
-                imports = parseJSON(file);
-            } else {
-                throw new RuntimeException("Unsupported file format. Use CSV or JSON");
-            }
-            
-            List<TestCase> testCases = new ArrayList<>();
-            for (TestResultImport imp : imports) {
-                TestCase testCase = new TestCase();
-                testCase.setName(imp.getTestCaseName());
-                testCase.setModule(imp.getModule());
-                testCase.setDuration(imp.getDuration());
-                testCase.setStatus(TestCase.Status.valueOf(imp.getStatus().toUpperCase()));
-                testCase.setBuild(build);
-                testCases.add(testCaseRepository.save(testCase));
+    public BulkOperationResult bulkUpdate(BulkAction action, BulkTestCaseRequest request) {
+        if (action == BulkAction.MOVE && request.getTargetBuildId() != null
+                && !buildRepository.existsById(request.getTargetBuildId())) {
+            throw new RuntimeException("Build not found");
+        }
+        return bulkExecutor.execute(action, request, (buildIds, statusDeltas, flakinessChanged) -> {
+            dashboardService.recordStatusDeltas(statusDeltas);
+            for (Long buildId : buildIds) {
+                comparisonCache.invalidateBuild(buildId);
+                buildResultStore.invalidateBuild(buildId);
             }
-            
-            return testCases;
-        } catch (Exception e) {
+            invalidateFlakiness(flakinessChanged);
+        });
+    }
+    
+    public ImportSummary importTestResults(Build build, String filename, InputStream in, ImportMode mode,
+                                           ImportProgressListener listener) {
+        try {
+            ImportSummary summary = testResultImporter.importResults(build, filename, in, mode, listener);
+            dashboardService.recordStatusDeltas(summary.getStatusDeltas());
+            appMetrics.recordImport(summary.getRowsImported(), summary.getRowsPerSecond());
+            comparisonCache.invalidateBuild(build.getId());
+            invalidateFlakiness(summary.getFlakinessChanged());
+            return summary;
+        } catch (IOException e) {
+            dashboardService.invalidate();
+            comparisonCache.invalidateAll();
             throw new RuntimeException("Failed to import: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            dashboardService.invalidate();
+            comparisonCache.invalidateAll();
+            throw e;
+        } finally {
+            buildResultStore.invalidateBuild(build.getId());
+        }
+    }
+    
+    public List<BuildComparisonResult> compareBuilds(Long build1Id, Long build2Id, boolean changesOnly) {
+        List<BuildComparisonResult> results = comparisonCache.get(build1Id, build2Id, () -> {
+            List<BuildComparisonResult> computed = new ArrayList<>();
+            compare(build1Id, build2Id, false, computed::add);
+            return computed;
+        });
+        if (changesOnly) {
+            results = results.stream()
+                    .filter(result -> result.getStatusChange() != StatusChange.SAME)
+                    .toList();
         }
+        appMetrics.recordComparison(results.size());
+        return results;
     }
     
-    private List<TestResultImport> parseCSV(MultipartFile file) throws Exception {
-        List<TestResultImport> results = new ArrayList<>();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream()))) {
-            String line = reader.readLine();
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.split(",");
-                if (parts.length >= 4) {
-                    TestResultImport result = new TestResultImport();
-                    result.setTestCaseName(parts[0].trim());
-                    result.setModule(parts[1].trim());
-                    result.setStatus(parts[2].trim());
-                    result.setDuration(Double.parseDouble(parts[3].trim()));
-                    results.add(result);
+    /**
+     * Writes the comparison to the consumer as the merge join produces it. A
+     * cached comparison is replayed; otherwise the results are neither held
+     * nor cached.
+     */
+    public void streamComparison(Long build1Id, Long build2Id, boolean changesOnly,
+                                 Consumer<BuildComparisonResult> consumer) {
+        int[] rows = new int[1];
+        Consumer<BuildComparisonResult> counting = result -> {
+            rows[0]++;
+            consumer.accept(result);
+        };
+        List<BuildComparisonResult> cached = comparisonCache.getIfPresent(build1Id, build2Id);
+        if (cached == null) {
+            compare(build1Id, build2Id, changesOnly, counting);
+        } else {
+            for (BuildComparisonResult result : cached) {
+                if (!changesOnly || result.getStatusChange() != StatusChange.SAME) {
+                    counting.accept(result);
                 }
             }
         }
-        return results;
+        appMetrics.recordComparison(rows[0]);
     }
     
-    private List<TestResultImport> parseJSON(MultipartFile file) throws Exception {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.readValue(file.getInputStream(), new TypeReference<List<TestResultImport>>(){});
+    private void compare(Long build1Id, Long build2Id, boolean changesOnly, Consumer<BuildComparisonResult> out) {
+        Map<TestKey, Double> flipRates = flakinessTracker.findFlipRates(build2Id);
+        flakinessTracker.findFlipRates(build1Id).forEach(flipRates::putIfAbsent);
+        Map<TestKey, Double> sigmas = durationStatsTracker.findRegressions(build2Id).stream()
+                .collect(Collectors.toMap(regression -> new TestKey(regression.getName(), regression.getModule()),
+                        DurationRegression::getSigmas));
+        Consumer<BuildComparisonResult> enriched = result -> {
+            TestKey test = new TestKey(result.getTestCaseName(), result.getModule());
+            Double flipRate = flipRates.get(test);
+            result.setFlakiness(flipRate);
+            result.setFlaky(flakinessTracker.isFlaky(flipRate));
+            result.setDurationSigmas(sigmas.get(test));
+            out.accept(result);
+        };
+        BuildResults results1 = buildResultStore.get(build1Id);
+        if (results1 != null) {
+            buildComparator.compare(results1, buildResultStore.get(build2Id), changesOnly, enriched);
+        } else {
+            buildComparator.compare(testCaseRepository.findComparisonRows(build1Id),
+                    testCaseRepository.findComparisonRows(build2Id), changesOnly, enriched);
+        }
     }
     
-    public List<BuildComparisonResult> compareBuilds(Long build1Id, Long build2Id) {
-        List<TestCase> build1Tests = testCaseRepository.findByBuildId(build1Id);
-        List<TestCase> build2Tests = testCaseRepository.findByBuildId(build2Id);
-        
-        Map<String, TestCase> build1Map = build1Tests.stream()
-                .collect(Collectors.toMap(TestCase::getName, tc -> tc));
-        Map<String, TestCase> build2Map = build2Tests.stream()
-                .collect(Collectors.toMap(TestCase::getName, tc -> tc));
-        
-        Set<String> allTestNames = new HashSet<>();
-        allTestNames.addAll(build1Map.keySet());
-        allTestNames.addAll(build2Map.keySet());
-        
-        List<BuildComparisonResult> results = new ArrayList<>();
-        for (String testName : allTestNames) {
-            TestCase tc1 = build1Map.get(testName);
-            TestCase tc2 = build2Map.get(testName);
-            
-            String status1 = tc1 != null ? tc1.getStatus().name() : "N/A";
-            String status2 = tc2 != null ? tc2.getStatus().name() : "N/A";
-            Double duration1 = tc1 != null ? tc1.getDuration() : null;
-            Double duration2 = tc2 != null ? tc2.getDuration() : null;
-            String module = tc1 != null ? tc1.getModule() : (tc2 != null ? tc2.getModule() : "N/A");
-            
-            String statusChange = "SAME";
-            if (!status1.equals(status2)) {
-                if (status1.equals("PASS") && status2.equals("FAIL")) {
-                    statusChange = "REGRESSION";
-                } else if (status1.equals("FAIL") && status2.equals("PASS")) {
-                    statusChange = "FIXED";
-                } else {
-                    statusChange = "CHANGED";
-                }
-            }
-            
-            Double durationChange = null;
-            if (duration1 != null && duration2 != null) {
-                durationChange = duration2 - duration1;
-            }
-            
-            results.add(new BuildComparisonResult(
-                testName, module, status1, status2, duration1, duration2, statusChange, durationChange
-            ));
+    public List<DurationRegression> getDurationRegressions(Long buildId) {
+        return durationStatsTracker.findRegressions(buildId);
+    }
+    
+    public List<FlakyTest> getFlakyTests(int limit) {
+        return flakinessTracker.findFlakyTests(Math.min(Math.max(limit, 1), MAX_HISTORY_POINTS));
+    }
+    
+    public TestHistory getTestHistory(String name, String module, Long beforeBuildId, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_HISTORY_POINTS);
+        return historyStore.findHistory(name, module, beforeBuildId, size)
+                .orElseThrow(() -> new RuntimeException("Test not found"));
+    }
+    
+    private void applyFlakiness(List<TestCaseSummary> testCases) {
+        Map<TestKey, Double> flipRates = flakinessTracker.findFlipRates(testCases.stream()
+                .map(testCase -> new TestKey(testCase.getName(), testCase.getModule()))
+                .collect(Collectors.toSet()));
+        for (TestCaseSummary testCase : testCases) {
+            Double flipRate = flipRates.get(new TestKey(testCase.getName(), testCase.getModule()));
+            testCase.setFlakiness(flipRate);
+            testCase.setFlaky(flakinessTracker.isFlaky(flipRate));
+        }
+    }
+    
+    private TestDefinition definition(String name, String module) {
+        if (name == null || name.isBlank()) {
+            throw new RuntimeException("Test case name is required");
+        }
+        return testDefinitionRepository.getReferenceById(testDefinitions.resolve(name, module));
+    }
+    
+    /** Returns the tests whose reported flip rate changed. */
+    private Set<Long> recordHistory(TestCase testCase) {
+        if (testCase.getBuild() == null) {
+            return Set.of();
+        }
+        return historyStore.recordResults(testCase.getBuild().getId(), List.of(new ResultEntry(
+                testCase.getDefinition().getId(), testCase.getStatus(), testCase.getDuration())));
+    }
+    
+    private static Long buildId(TestCase testCase) {
+        return testCase.getBuild() != null ? testCase.getBuild().getId() : null;
+    }
+    
+    /** A test's flip rate shows in every comparison listing it, not just the builds that changed. */
+    private void invalidateFlakiness(Set<Long> testIds) {
+        comparisonCache.invalidateTests(testNames(testIds));
+    }
+    
+    private Set<String> testNames(Set<Long> testIds) {
+        return testIds.isEmpty() ? Set.of() : testDefinitions.findNames(testIds);
+    }
+    
+    private void invalidateComparisons(TestCase testCase) {
+        if (testCase.getBuild() != null) {
+            comparisonCache.invalidateBuild(testCase.getBuild().getId());
+            buildResultStore.invalidateBuild(testCase.getBuild().getId());
         }
-        
-        return results;
     }
 }
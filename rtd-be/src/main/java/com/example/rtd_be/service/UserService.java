@@ -1,12 +1,14 @@
 package com.example.rtd_be.service;
 
+import com.example.rtd_be.dto.CursorPage;
+import com.example.rtd_be.dto.CursorRequest;
 import com.example.rtd_be.dto.RegisterRequest;
 import com.example.rtd_be.model.User;
 import com.example.rtd_be.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -15,8 +17,11 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public CursorPage<User> getAllUsers(CursorRequest page) {
+        Slice<User> slice = page.isAscending()
+                ? userRepository.findByIdGreaterThan(page.cursor(), page.toPageable())
+                : userRepository.findByIdLessThan(page.cursor(), page.toPageable());
+        return CursorPage.of(slice, User::getId);
     }
     
     public User getUserById(Long id) {
@@ -0,0 +1,17 @@
+-- per-status totals and the per-module breakdown recorded when a run is executed
+ALTER TABLE regression_runs
+    ADD COLUMN blocked INTEGER,
+    ADD COLUMN pending INTEGER,
+    ADD COLUMN total_duration FLOAT(53);
+
+CREATE TABLE regression_run_modules (
+    run_id BIGINT NOT NULL,
+    module VARCHAR(255),
+    total_tests INTEGER NOT NULL,
+    passed INTEGER NOT NULL,
+    failed INTEGER NOT NULL,
+    blocked INTEGER NOT NULL,
+    pending INTEGER NOT NULL,
+    total_duration FLOAT(53) NOT NULL,
+    CONSTRAINT fk_regression_run_modules_run FOREIGN KEY (run_id) REFERENCES regression_runs (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,42 @@
+CREATE TABLE users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6),
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role ENUM('ADMIN', 'TESTER', 'VIEWER') NOT NULL,
+    username VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_username UNIQUE (username)
+) ENGINE = InnoDB;
+
+CREATE TABLE builds (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6),
+    description VARCHAR(255),
+    version VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE test_cases (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    description VARCHAR(255),
+    duration FLOAT(53),
+    module VARCHAR(255),
+    name VARCHAR(255) NOT NULL,
+    status ENUM('PASS', 'FAIL', 'BLOCKED', 'PENDING'),
+    build_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_test_cases_build FOREIGN KEY (build_id) REFERENCES builds (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE regression_runs (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    executed_at DATETIME(6),
+    failed INTEGER,
+    passed INTEGER,
+    total_tests INTEGER,
+    build_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_regression_runs_build FOREIGN KEY (build_id) REFERENCES builds (id)
+) ENGINE = InnoDB;
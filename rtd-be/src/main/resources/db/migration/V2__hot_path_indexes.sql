@@ -0,0 +1,20 @@
+-- CI retries left several rows for the same test in a build; keep the newest of each
+DELETE t FROM test_cases t
+JOIN (
+    SELECT build_id, name, MAX(id) AS keep_id
+    FROM test_cases
+    GROUP BY build_id, name
+    HAVING COUNT(*) > 1
+) duplicates ON duplicates.build_id = t.build_id AND duplicates.name = t.name AND t.id <> duplicates.keep_id;
+
+-- one row per test name per build; also serves findComparisonRows ordered by name
+ALTER TABLE test_cases ADD CONSTRAINT uk_test_cases_build_name UNIQUE (build_id, name);
+
+-- countByStatus / countGroupByStatus read only this index
+CREATE INDEX idx_test_cases_status ON test_cases (status);
+
+-- covering index for the per-module aggregate used by regression runs
+CREATE INDEX idx_test_cases_build_module_status ON test_cases (build_id, module, status, duration);
+
+-- findByBuildIdOrderByExecutedAtDesc
+CREATE INDEX idx_regression_runs_build_executed ON regression_runs (build_id, executed_at);
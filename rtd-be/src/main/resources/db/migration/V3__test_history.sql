@@ -0,0 +1,30 @@
+-- one row per distinct test name; binary collation so identities match test names exactly
+CREATE TABLE test_identities (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+    module VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_test_identities_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+-- clustered on (test_id, build_id) so a test's series is one contiguous range scan
+CREATE TABLE test_results (
+    test_id BIGINT NOT NULL,
+    build_id BIGINT NOT NULL,
+    status ENUM('PASS', 'FAIL', 'BLOCKED', 'PENDING'),
+    duration FLOAT(53),
+    recorded_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (test_id, build_id),
+    CONSTRAINT fk_test_results_test FOREIGN KEY (test_id) REFERENCES test_identities (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_test_results_build ON test_results (build_id);
+
+INSERT INTO test_identities (name, module)
+SELECT name COLLATE utf8mb4_bin, MAX(module) FROM test_cases GROUP BY name COLLATE utf8mb4_bin;
+
+INSERT INTO test_results (test_id, build_id, status, duration, recorded_at)
+SELECT i.id, t.build_id, t.status, t.duration, COALESCE(b.created_at, CURRENT_TIMESTAMP(6))
+FROM test_cases t
+JOIN builds b ON b.id = t.build_id
+JOIN test_identities i ON i.name = t.name COLLATE utf8mb4_bin;
@@ -0,0 +1,33 @@
+-- sliding window of the most recent PASS/FAIL outcomes per test; bit 0 is the newest build, 1 = FAIL
+CREATE TABLE test_flakiness (
+    test_id BIGINT NOT NULL,
+    last_build_id BIGINT NOT NULL,
+    outcomes BIGINT NOT NULL,
+    observations INTEGER NOT NULL,
+    flips INTEGER NOT NULL,
+    flip_rate FLOAT(53) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (test_id),
+    CONSTRAINT fk_test_flakiness_test FOREIGN KEY (test_id) REFERENCES test_identities (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_test_flakiness_rate ON test_flakiness (flip_rate);
+
+INSERT INTO test_flakiness (test_id, last_build_id, outcomes, observations, flips, flip_rate, updated_at)
+SELECT test_id,
+       MAX(build_id),
+       SUM(IF(status = 'FAIL', 1, 0) << (rn - 1)),
+       COUNT(*),
+       SUM(IF(newer_status IS NOT NULL AND newer_status <> status, 1, 0)),
+       IF(COUNT(*) > 1, SUM(IF(newer_status IS NOT NULL AND newer_status <> status, 1, 0)) / (COUNT(*) - 1), 0),
+       CURRENT_TIMESTAMP(6)
+FROM (
+    SELECT test_id, build_id, status,
+           ROW_NUMBER() OVER w AS rn,
+           LAG(status) OVER w AS newer_status
+    FROM test_results
+    WHERE status IN ('PASS', 'FAIL')
+    WINDOW w AS (PARTITION BY test_id ORDER BY build_id DESC)
+) recent
+WHERE rn <= 20
+GROUP BY test_id;
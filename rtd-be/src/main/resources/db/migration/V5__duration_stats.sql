@@ -0,0 +1,30 @@
+-- running duration statistics per test (Welford: samples, mean, sum of squared deviations)
+CREATE TABLE test_duration_stats (
+    test_id BIGINT NOT NULL,
+    last_build_id BIGINT NOT NULL,
+    samples BIGINT NOT NULL,
+    mean FLOAT(53) NOT NULL,
+    m2 FLOAT(53) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (test_id),
+    CONSTRAINT fk_test_duration_stats_test FOREIGN KEY (test_id) REFERENCES test_identities (id)
+) ENGINE = InnoDB;
+
+-- results flagged as slower than their baseline when they were recorded
+CREATE TABLE duration_regressions (
+    build_id BIGINT NOT NULL,
+    test_id BIGINT NOT NULL,
+    duration FLOAT(53) NOT NULL,
+    baseline_mean FLOAT(53) NOT NULL,
+    baseline_std_dev FLOAT(53) NOT NULL,
+    baseline_samples BIGINT NOT NULL,
+    z_score FLOAT(53) NOT NULL,
+    PRIMARY KEY (build_id, test_id),
+    CONSTRAINT fk_duration_regressions_test FOREIGN KEY (test_id) REFERENCES test_identities (id)
+) ENGINE = InnoDB;
+
+INSERT INTO test_duration_stats (test_id, last_build_id, samples, mean, m2, updated_at)
+SELECT test_id, MAX(build_id), COUNT(duration), AVG(duration), VAR_POP(duration) * COUNT(duration), CURRENT_TIMESTAMP(6)
+FROM test_results
+WHERE duration IS NOT NULL
+GROUP BY test_id;
@@ -0,0 +1,84 @@
+-- test identities become the dictionary of test definitions that test cases reference by id;
+-- a definition is one (name, module) pair and is never rewritten, so a name reported under
+-- two modules is two tests with their own history
+RENAME TABLE test_identities TO test_definitions;
+
+UPDATE test_definitions SET module = NULL WHERE module = '';
+
+-- module_key folds NULL into the unique key, which would otherwise let duplicates of (name, NULL) in
+ALTER TABLE test_definitions
+    MODIFY module VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin,
+    ADD COLUMN module_key VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin
+        AS (COALESCE(module, '')) STORED NOT NULL,
+    DROP INDEX uk_test_identities_name,
+    ADD CONSTRAINT uk_test_definitions_name_module UNIQUE (name, module_key);
+
+-- the identities hold one module per name; add every other pair, including test cases
+-- without a build, which never reached the history tables
+INSERT IGNORE INTO test_definitions (name, module)
+SELECT DISTINCT name COLLATE utf8mb4_bin, NULLIF(module, '') COLLATE utf8mb4_bin FROM test_cases;
+
+ALTER TABLE test_cases ADD COLUMN test_id BIGINT;
+
+UPDATE test_cases t
+JOIN test_definitions d ON d.name = t.name COLLATE utf8mb4_bin
+    AND d.module_key = COALESCE(t.module, '') COLLATE utf8mb4_bin
+SET t.test_id = d.id;
+
+-- history was keyed by name alone; move each result to the definition its build's test case
+-- has, which is unique because a build held one test case per name
+UPDATE test_results r
+JOIN test_definitions i ON i.id = r.test_id
+JOIN test_cases t ON t.build_id = r.build_id AND t.name COLLATE utf8mb4_bin = i.name
+SET r.test_id = t.test_id
+WHERE t.test_id <> r.test_id;
+
+UPDATE duration_regressions r
+JOIN test_definitions i ON i.id = r.test_id
+JOIN test_cases t ON t.build_id = r.build_id AND t.name COLLATE utf8mb4_bin = i.name
+SET r.test_id = t.test_id
+WHERE t.test_id <> r.test_id;
+
+-- rebuild the per-test aggregates from the regrouped history, as V4 and V5 did
+DELETE FROM test_flakiness;
+
+INSERT INTO test_flakiness (test_id, last_build_id, outcomes, observations, flips, flip_rate, updated_at)
+SELECT test_id,
+       MAX(build_id),
+       SUM(IF(status = 'FAIL', 1, 0) << (rn - 1)),
+       COUNT(*),
+       SUM(IF(newer_status IS NOT NULL AND newer_status <> status, 1, 0)),
+       IF(COUNT(*) > 1, SUM(IF(newer_status IS NOT NULL AND newer_status <> status, 1, 0)) / (COUNT(*) - 1), 0),
+       CURRENT_TIMESTAMP(6)
+FROM (
+    SELECT test_id, build_id, status,
+           ROW_NUMBER() OVER w AS rn,
+           LAG(status) OVER w AS newer_status
+    FROM test_results
+    WHERE status IN ('PASS', 'FAIL')
+    WINDOW w AS (PARTITION BY test_id ORDER BY build_id DESC)
+) recent
+WHERE rn <= 20
+GROUP BY test_id;
+
+DELETE FROM test_duration_stats;
+
+INSERT INTO test_duration_stats (test_id, last_build_id, samples, mean, m2, updated_at)
+SELECT test_id, MAX(build_id), COUNT(duration), AVG(duration), VAR_POP(duration) * COUNT(duration), CURRENT_TIMESTAMP(6)
+FROM test_results
+WHERE duration IS NOT NULL
+GROUP BY test_id;
+
+-- name and module now live once per test in test_definitions; the unique key orders a build
+-- by test, so keyset paging within a build gets its own (build_id, id) index, and the covering
+-- index behind the per-module aggregate and the comparison rows is keyed on test_id instead
+ALTER TABLE test_cases
+    DROP INDEX uk_test_cases_build_name,
+    DROP INDEX idx_test_cases_build_module_status,
+    DROP COLUMN name,
+    DROP COLUMN module,
+    MODIFY test_id BIGINT NOT NULL,
+    ADD CONSTRAINT fk_test_cases_definition FOREIGN KEY (test_id) REFERENCES test_definitions (id),
+    ADD CONSTRAINT uk_test_cases_build_test UNIQUE (build_id, test_id),
+    ADD INDEX idx_test_cases_build_id (build_id, id),
+    ADD INDEX idx_test_cases_build_test_status (build_id, test_id, status, duration);
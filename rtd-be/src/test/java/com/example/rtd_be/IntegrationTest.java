@@ -0,0 +1,34 @@
+package com.example.rtd_be;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base class for tests that need the application context on a real MySQL
+ * schema. One container is started for the whole run and Flyway migrates it
+ * on the first context start; classes seed their own builds and must not
+ * assume empty tables. Skipped when Docker is not available.
+ */
+@SpringBootTest(properties = {
+        "jwt.secret=integration-test-secret-that-is-at-least-256-bits-long",
+        "jwt.expiration=3600000",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.springframework.security=INFO",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class IntegrationTest {
+
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        MYSQL.start();
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.rtd_be.analytics;
+
+import com.example.rtd_be.compare.BuildComparator;
+import com.example.rtd_be.dto.BuildComparisonResult;
+import com.example.rtd_be.dto.ComparisonRow;
+import com.example.rtd_be.model.TestCase;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BuildResultsTest {
+
+    private final BuildComparator comparator = new BuildComparator();
+
+    @Test
+    void rowsAreOrderedByNameAndModule() {
+        BuildResults results = build(new Dictionary(), new Dictionary(), List.of(
+                new ComparisonRow("c", null, TestCase.Status.PASS, 1.0),
+                new ComparisonRow("a", "m", null, null),
+                new ComparisonRow("b", "m", TestCase.Status.FAIL, 2.0)));
+
+        assertThat(results.size()).isEqualTo(3);
+        assertThat(List.of(results.name(0), results.name(1), results.name(2))).containsExactly("a", "b", "c");
+        assertThat(results.status(0)).isNull();
+        assertThat(results.duration(0)).isNull();
+        assertThat(results.module(2)).isNull();
+        assertThat(results.status(1)).isEqualTo(TestCase.Status.FAIL);
+    }
+
+    @Test
+    void sameNameIsOrderedByModuleWithNoModuleFirst() {
+        BuildResults results = build(new Dictionary(), new Dictionary(), List.of(
+                new ComparisonRow("a", "web", TestCase.Status.PASS, 1.0),
+                new ComparisonRow("a", null, TestCase.Status.PASS, 1.0),
+                new ComparisonRow("a", "core", TestCase.Status.FAIL, 1.0)));
+
+        assertThat(results.size()).isEqualTo(3);
+        assertThat(results.module(0)).isNull();
+        assertThat(results.module(1)).isEqualTo("core");
+        assertThat(results.module(2)).isEqualTo("web");
+    }
+
+    @Test
+    void columnarJoinMatchesRowJoin() {
+        Random random = new Random(42);
+        List<ComparisonRow> rows1 = randomRows(random);
+        List<ComparisonRow> rows2 = randomRows(random);
+
+        Dictionary names = new Dictionary();
+        Dictionary modules = new Dictionary();
+        List<BuildComparisonResult> shared = compare(build(names, modules, rows1), build(names, modules, rows2));
+        List<BuildComparisonResult> separate = compare(build(new Dictionary(), modules, rows1),
+                build(new Dictionary(), modules, rows2));
+
+        List<BuildComparisonResult> expected = new ArrayList<>();
+        comparator.compare(new ArrayList<>(rows1), new ArrayList<>(rows2), false, expected::add);
+
+        assertThat(shared).isEqualTo(expected);
+        assertThat(separate).isEqualTo(expected);
+    }
+
+    private List<BuildComparisonResult> compare(BuildResults build1, BuildResults build2) {
+        List<BuildComparisonResult> results = new ArrayList<>();
+        comparator.compare(build1, build2, false, results::add);
+        return results;
+    }
+
+    private static BuildResults build(Dictionary names, Dictionary modules, List<ComparisonRow> rows) {
+        BuildResults.Builder builder = BuildResults.builder(names, modules);
+        for (ComparisonRow row : rows) {
+            builder.add(row.name(), row.module(), row.status() != null ? row.status().name() : null,
+                    row.duration() != null ? row.duration() : Double.NaN);
+        }
+        return builder.build();
+    }
+
+    private static List<ComparisonRow> randomRows(Random random) {
+        TestCase.Status[] statuses = TestCase.Status.values();
+        List<ComparisonRow> rows = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (random.nextInt(4) == 0) {
+                continue;
+            }
+            TestCase.Status status = random.nextInt(10) == 0 ? null : statuses[random.nextInt(statuses.length)];
+            Double duration = random.nextInt(10) == 0 ? null : (double) random.nextInt(1000);
+            String module = i % 7 == 0 ? null : "module" + i % 7;
+            rows.add(new ComparisonRow("test." + i % 1500, module, status, duration));
+        }
+        return rows;
+    }
+}
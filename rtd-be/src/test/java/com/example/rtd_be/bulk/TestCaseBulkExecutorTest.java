@@ -0,0 +1,266 @@
+package com.example.rtd_be.bulk;
+
+import com.example.rtd_be.IntegrationTest;
+import com.example.rtd_be.dto.BulkOperationResult;
+import com.example.rtd_be.dto.BulkTestCaseRequest;
+import com.example.rtd_be.history.TestHistoryStore;
+import com.example.rtd_be.model.TestCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestCaseBulkExecutorTest extends IntegrationTest {
+
+    private static final int CHUNK_SIZE = 3;
+    private static final AtomicInteger RUN = new AtomicInteger();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestHistoryStore historyStore;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TestCaseBulkExecutor executor;
+    private final List<Set<Long>> committedChunks = new ArrayList<>();
+    private final BulkChunkListener listener = (buildIds, statusDeltas, flakinessChanged) ->
+            committedChunks.add(buildIds);
+    private String prefix;
+
+    @BeforeEach
+    void setUp() {
+        executor = new TestCaseBulkExecutor(jdbcTemplate, historyStore, transactionManager, CHUNK_SIZE, 100);
+        committedChunks.clear();
+        prefix = "bulk" + RUN.incrementAndGet() + ".";
+    }
+
+    @Test
+    void statusChangeWalksTheMatchesInChunks() {
+        long buildId = build("status");
+        for (int i = 0; i < 7; i++) {
+            testCase(buildId, "Test" + i, "core", "FAIL");
+        }
+        testCase(buildId, "Passing", "core", "PASS");
+
+        BulkOperationResult result = executor.execute(BulkAction.STATUS,
+                request(req -> {
+                    req.setBuildId(buildId);
+                    req.setStatus(TestCase.Status.FAIL);
+                    req.setTargetStatus(TestCase.Status.BLOCKED);
+                }), listener);
+
+        assertThat(result.getMatched()).isEqualTo(7);
+        assertThat(result.getAffected()).isEqualTo(7);
+        assertThat(result.getChunksCommitted()).isEqualTo(3);
+        assertThat(committedChunks).hasSize(3).allSatisfy(ids -> assertThat(ids).containsExactly(buildId));
+        assertThat(result.getStatusDeltas()).containsEntry(TestCase.Status.FAIL, -7L)
+                .containsEntry(TestCase.Status.BLOCKED, 7L);
+        assertThat(statusCounts(buildId)).containsExactlyInAnyOrderEntriesOf(Map.of("BLOCKED", 7L, "PASS", 1L));
+        assertThat(historyCount(buildId, "BLOCKED")).isEqualTo(7);
+    }
+
+    @Test
+    void statusChangeSkipsRowsAlreadyAtTheTarget() {
+        long buildId = build("status-target");
+        testCase(buildId, "A", "core", "PASS");
+        testCase(buildId, "B", "core", "FAIL");
+
+        BulkOperationResult result = executor.execute(BulkAction.STATUS,
+                request(req -> {
+                    req.setBuildId(buildId);
+                    req.setTargetStatus(TestCase.Status.PASS);
+                }), listener);
+
+        assertThat(result.getMatched()).isEqualTo(1);
+        assertThat(result.getStatusDeltas()).containsEntry(TestCase.Status.FAIL, -1L)
+                .containsEntry(TestCase.Status.PASS, 1L);
+        assertThat(statusCounts(buildId)).containsExactlyEntriesOf(Map.of("PASS", 2L));
+    }
+
+    @Test
+    void moduleFilterOnlyTouchesThatModule() {
+        long buildId = build("module");
+        testCase(buildId, "A", "core", "FAIL");
+        testCase(buildId, "B", "web", "FAIL");
+
+        BulkOperationResult result = executor.execute(BulkAction.STATUS,
+                request(req -> {
+                    req.setBuildId(buildId);
+                    req.setModule("web");
+                    req.setTargetStatus(TestCase.Status.PASS);
+                }), listener);
+
+        assertThat(result.getMatched()).isEqualTo(1);
+        assertThat(statusCounts(buildId)).containsExactlyInAnyOrderEntriesOf(Map.of("FAIL", 1L, "PASS", 1L));
+    }
+
+    @Test
+    void dryRunCountsWithoutChangingAnything() {
+        long buildId = build("dry-run");
+        for (int i = 0; i < 5; i++) {
+            testCase(buildId, "Test" + i, "core", "PASS");
+        }
+
+        BulkOperationResult result = executor.execute(BulkAction.DELETE,
+                request(req -> {
+                    req.setBuildId(buildId);
+                    req.setDryRun(true);
+                }), listener);
+
+        assertThat(result.isDryRun()).isTrue();
+        assertThat(result.getMatched()).isEqualTo(5);
+        assertThat(result.getAffected()).isEqualTo(5);
+        assertThat(result.getChunksCommitted()).isZero();
+        assertThat(committedChunks).isEmpty();
+        assertThat(statusCounts(buildId)).containsExactlyEntriesOf(Map.of("PASS", 5L));
+    }
+
+    @Test
+    void deleteRemovesTheRowsAndTheirHistory() {
+        long buildId = build("delete");
+        for (int i = 0; i < 4; i++) {
+            testCase(buildId, "Test" + i, "core", i % 2 == 0 ? "PASS" : "FAIL");
+        }
+
+        BulkOperationResult result = executor.execute(BulkAction.DELETE,
+                request(req -> req.setBuildId(buildId)), listener);
+
+        assertThat(result.getMatched()).isEqualTo(4);
+        assertThat(result.getChunksCommitted()).isEqualTo(2);
+        assertThat(result.getStatusDeltas()).containsEntry(TestCase.Status.PASS, -2L)
+                .containsEntry(TestCase.Status.FAIL, -2L);
+        assertThat(statusCounts(buildId)).isEmpty();
+        assertThat(historyCount(buildId)).isZero();
+    }
+
+    @Test
+    void moveSkipsTestsTheTargetAlreadyHas() {
+        long source = build("move-source");
+        long target = build("move-target");
+        testCase(source, "A", "core", "PASS");
+        testCase(source, "B", "core", "FAIL");
+        testCase(source, "C", "core", "PASS");
+        testCase(target, "B", "core", "PASS");
+
+        BulkTestCaseRequest move = request(req -> {
+            req.setBuildId(source);
+            req.setTargetBuildId(target);
+        });
+        move.setDryRun(true);
+        BulkOperationResult dryRun = executor.execute(BulkAction.MOVE, move, listener);
+        move.setDryRun(false);
+        BulkOperationResult result = executor.execute(BulkAction.MOVE, move, listener);
+
+        assertThat(dryRun.getMatched()).isEqualTo(2);
+        assertThat(result.getMatched()).isEqualTo(2);
+        assertThat(result.getAffected()).isEqualTo(2);
+        assertThat(result.getBuildIds()).containsExactlyInAnyOrder(source, target);
+        assertThat(names(source)).containsExactly(prefix + "B");
+        assertThat(names(target)).containsExactlyInAnyOrder(prefix + "A", prefix + "B", prefix + "C");
+        assertThat(historyCount(source)).isEqualTo(1);
+        assertThat(historyCount(target)).isEqualTo(3);
+    }
+
+    @Test
+    void moveKeepsOneRowPerTestWhenSourcesShareIt() {
+        long first = build("move-first");
+        long second = build("move-second");
+        long target = build("move-shared-target");
+        long firstRow = testCase(first, "Shared", "core", "PASS");
+        long secondRow = testCase(second, "Shared", "core", "FAIL");
+
+        BulkTestCaseRequest move = request(req -> {
+            req.setIds(List.of(firstRow, secondRow));
+            req.setTargetBuildId(target);
+        });
+        move.setDryRun(true);
+        BulkOperationResult dryRun = executor.execute(BulkAction.MOVE, move, listener);
+        move.setDryRun(false);
+        BulkOperationResult result = executor.execute(BulkAction.MOVE, move, listener);
+
+        assertThat(dryRun.getMatched()).isEqualTo(2);
+        assertThat(dryRun.getAffected()).isEqualTo(1);
+        assertThat(result.getMatched()).isEqualTo(2);
+        assertThat(result.getAffected()).isEqualTo(1);
+        assertThat(names(target)).containsExactly(prefix + "Shared");
+        assertThat(names(first)).isEmpty();
+        assertThat(names(second)).containsExactly(prefix + "Shared");
+    }
+
+    @Test
+    void rejectsRequestsWithoutAFilterOrTarget() {
+        assertThatThrownBy(() -> executor.execute(BulkAction.DELETE, new BulkTestCaseRequest(), listener))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("At least one filter is required");
+        long buildId = build("no-target");
+        assertThatThrownBy(() -> executor.execute(BulkAction.MOVE,
+                request(req -> req.setBuildId(buildId)), listener))
+                .hasMessage("Target build is required");
+        assertThatThrownBy(() -> executor.execute(BulkAction.STATUS,
+                request(req -> req.setIds(List.of(1L, 2L, 3L))), listener))
+                .hasMessage("Target status is required");
+    }
+
+    private static BulkTestCaseRequest request(Consumer<BulkTestCaseRequest> filter) {
+        BulkTestCaseRequest request = new BulkTestCaseRequest();
+        filter.accept(request);
+        return request;
+    }
+
+    private long build(String version) {
+        jdbcTemplate.update("INSERT INTO builds (version, created_at) VALUES (?, CURRENT_TIMESTAMP(6))",
+                prefix + version);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM builds WHERE version = ?", Long.class,
+                prefix + version);
+    }
+
+    /** Adds a test case and its history row, the way an import leaves them. */
+    private long testCase(long buildId, String name, String module, String status) {
+        jdbcTemplate.update("INSERT IGNORE INTO test_definitions (name, module) VALUES (?, ?)", prefix + name, module);
+        long testId = jdbcTemplate.queryForObject("SELECT id FROM test_definitions WHERE name = ? AND module_key = ?",
+                Long.class, prefix + name, module);
+        jdbcTemplate.update("INSERT INTO test_cases (test_id, build_id, status, duration) VALUES (?, ?, ?, 1.0)",
+                testId, buildId, status);
+        jdbcTemplate.update("INSERT INTO test_results (test_id, build_id, status, duration, recorded_at)"
+                + " VALUES (?, ?, ?, 1.0, CURRENT_TIMESTAMP(6))", testId, buildId, status);
+        return jdbcTemplate.queryForObject("SELECT id FROM test_cases WHERE build_id = ? AND test_id = ?",
+                Long.class, buildId, testId);
+    }
+
+    private Map<String, Long> statusCounts(long buildId) {
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query("SELECT status, COUNT(*) AS n FROM test_cases WHERE build_id = ? GROUP BY status", rs -> {
+            counts.put(rs.getString("status"), rs.getLong("n"));
+        }, buildId);
+        return counts;
+    }
+
+    private List<String> names(long buildId) {
+        return jdbcTemplate.queryForList("SELECT d.name FROM test_cases t JOIN test_definitions d ON d.id = t.test_id"
+                + " WHERE t.build_id = ?", String.class, buildId);
+    }
+
+    private int historyCount(long buildId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM test_results WHERE build_id = ?",
+                Integer.class, buildId);
+    }
+
+    private int historyCount(long buildId, String status) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM test_results WHERE build_id = ? AND status = ?",
+                Integer.class, buildId, status);
+    }
+}
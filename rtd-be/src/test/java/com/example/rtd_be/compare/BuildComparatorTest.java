@@ -0,0 +1,115 @@
+package com.example.rtd_be.compare;
+
+import com.example.rtd_be.dto.BuildComparisonResult;
+import com.example.rtd_be.dto.ComparisonRow;
+import com.example.rtd_be.dto.StatusChange;
+import com.example.rtd_be.model.TestCase;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.rtd_be.model.TestCase.Status.BLOCKED;
+import static com.example.rtd_be.model.TestCase.Status.FAIL;
+import static com.example.rtd_be.model.TestCase.Status.PASS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class BuildComparatorTest {
+
+    private final BuildComparator comparator = new BuildComparator();
+
+    @Test
+    void joinsUnsortedRowsByName() {
+        List<BuildComparisonResult> results = compare(
+                rows(row("c", PASS, 3.0), row("a", PASS, 1.0), row("b", FAIL, 2.0)),
+                rows(row("b", PASS, 2.5), row("c", FAIL, 2.0), row("a", PASS, 1.5)),
+                false);
+
+        assertThat(results).extracting(BuildComparisonResult::getTestCaseName,
+                        BuildComparisonResult::getStatusChange, BuildComparisonResult::getDurationChange)
+                .containsExactly(
+                        tuple("a", StatusChange.SAME, 0.5),
+                        tuple("b", StatusChange.FIXED, 0.5),
+                        tuple("c", StatusChange.REGRESSION, -1.0));
+    }
+
+    @Test
+    void testsOnOneSideAreReportedAsMissingOnTheOther() {
+        List<BuildComparisonResult> results = compare(
+                rows(row("a", PASS, 1.0), row("only1", FAIL, null)),
+                rows(row("a", PASS, 1.0), row("only2", PASS, 4.0), row("z", BLOCKED, null)),
+                false);
+
+        assertThat(results).extracting(BuildComparisonResult::getTestCaseName,
+                        BuildComparisonResult::getBuild1Status, BuildComparisonResult::getBuild2Status,
+                        BuildComparisonResult::getStatusChange)
+                .containsExactly(
+                        tuple("a", "PASS", "PASS", StatusChange.SAME),
+                        tuple("only1", "FAIL", "N/A", StatusChange.CHANGED),
+                        tuple("only2", "N/A", "PASS", StatusChange.CHANGED),
+                        tuple("z", "N/A", "BLOCKED", StatusChange.CHANGED));
+        assertThat(results.get(2).getDurationChange()).isNull();
+    }
+
+    @Test
+    void changesOnlySkipsUnchangedTests() {
+        List<BuildComparisonResult> results = compare(
+                rows(row("a", PASS, 1.0), row("b", FAIL, 1.0), row("c", BLOCKED, 1.0)),
+                rows(row("a", PASS, 9.0), row("b", FAIL, 1.0), row("c", PASS, 1.0)),
+                true);
+
+        assertThat(results).extracting(BuildComparisonResult::getTestCaseName,
+                        BuildComparisonResult::getStatusChange)
+                .containsExactly(tuple("c", StatusChange.CHANGED));
+    }
+
+    @Test
+    void missingStatusOnBothSidesIsUnchanged() {
+        List<BuildComparisonResult> results = compare(
+                rows(row("a", null, null)), rows(row("a", null, null)), false);
+
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.getBuild1Status()).isEqualTo("N/A");
+            assertThat(result.getStatusChange()).isEqualTo(StatusChange.SAME);
+        });
+    }
+
+    @Test
+    void sameNameInTwoModulesIsJoinedPerModule() {
+        List<BuildComparisonResult> results = compare(
+                rows(row("a", "web", FAIL, 2.0), row("a", "core", PASS, 1.0), row("a", null, PASS, 3.0)),
+                rows(row("a", "core", PASS, 1.0), row("a", "web", FAIL, 2.0)),
+                false);
+
+        assertThat(results).extracting(BuildComparisonResult::getModule, BuildComparisonResult::getBuild1Status,
+                        BuildComparisonResult::getBuild2Status, BuildComparisonResult::getStatusChange)
+                .containsExactly(
+                        tuple(null, "PASS", "N/A", StatusChange.CHANGED),
+                        tuple("core", "PASS", "PASS", StatusChange.SAME),
+                        tuple("web", "FAIL", "FAIL", StatusChange.SAME));
+    }
+
+    @Test
+    void emptyBuildsProduceNoRows() {
+        assertThat(compare(rows(), rows(), false)).isEmpty();
+    }
+
+    private List<BuildComparisonResult> compare(List<ComparisonRow> build1, List<ComparisonRow> build2,
+                                                boolean changesOnly) {
+        List<BuildComparisonResult> results = new ArrayList<>();
+        comparator.compare(build1, build2, changesOnly, results::add);
+        return results;
+    }
+
+    private static List<ComparisonRow> rows(ComparisonRow... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    private static ComparisonRow row(String name, TestCase.Status status, Double duration) {
+        return row(name, "module", status, duration);
+    }
+
+    private static ComparisonRow row(String name, String module, TestCase.Status status, Double duration) {
+        return new ComparisonRow(name, module, status, duration);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.rtd_be.compare;
+
+import com.example.rtd_be.dto.BuildComparisonResult;
+import com.example.rtd_be.dto.StatusChange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ComparisonCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void hitsMissesAndSizeAreExportedAsMeters() {
+        ComparisonCache cache = new ComparisonCache(registry, DataSize.ofMegabytes(1));
+
+        cache.get(1L, 2L, () -> results("a"));
+        cache.get(1L, 2L, () -> results("b"));
+        cache.get(1L, 3L, () -> results("c"));
+
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(2);
+        assertThat(registry.get("rtd.compare.cache.entries").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("rtd.compare.cache.size").gauge().value()).isPositive();
+    }
+
+    @Test
+    void getIfPresentNeverLoads() {
+        ComparisonCache cache = new ComparisonCache(registry, DataSize.ofMegabytes(1));
+
+        assertThat(cache.getIfPresent(1L, 2L)).isNull();
+        cache.get(1L, 2L, () -> results("a"));
+
+        assertThat(cache.getIfPresent(1L, 2L)).extracting(BuildComparisonResult::getTestCaseName)
+                .containsExactly("a");
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(2);
+    }
+
+    @Test
+    void evictionsAreCounted() {
+        ComparisonCache cache = new ComparisonCache(registry, DataSize.ofBytes(400));
+
+        cache.get(1L, 2L, () -> results("a"));
+        cache.get(1L, 3L, () -> results("b"));
+
+        assertThat(registry.get("rtd.compare.cache.evictions").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("rtd.compare.cache.entries").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidatingABuildDropsItsComparisonsOnly() {
+        ComparisonCache cache = new ComparisonCache(registry, DataSize.ofMegabytes(1));
+        cache.get(1L, 2L, () -> results("a"));
+        cache.get(3L, 4L, () -> results("b"));
+
+        cache.invalidateBuild(2L);
+
+        assertThat(cache.get(1L, 2L, () -> results("reloaded")))
+                .extracting(BuildComparisonResult::getTestCaseName).containsExactly("reloaded");
+        assertThat(cache.get(3L, 4L, () -> results("reloaded")))
+                .extracting(BuildComparisonResult::getTestCaseName).containsExactly("b");
+    }
+
+    @Test
+    void invalidatingTestsDropsTheComparisonsListingThem() {
+        ComparisonCache cache = new ComparisonCache(registry, DataSize.ofMegabytes(1));
+        cache.get(1L, 2L, () -> results("flaky"));
+        cache.get(3L, 4L, () -> results("stable"));
+
+        cache.invalidateTests(Set.of("flaky"));
+
+        assertThat(cache.get(1L, 2L, () -> results("reloaded")))
+                .extracting(BuildComparisonResult::getTestCaseName).containsExactly("reloaded");
+        assertThat(cache.get(3L, 4L, () -> results("reloaded")))
+                .extracting(BuildComparisonResult::getTestCaseName).containsExactly("stable");
+    }
+
+    @Test
+    void loadRacingATestInvalidationIsNotCached() {
+        ComparisonCache cache = new ComparisonCache(registry, DataSize.ofMegabytes(1));
+
+        cache.get(1L, 2L, () -> {
+            cache.invalidateTests(Set.of("flaky"));
+            return results("flaky");
+        });
+
+        assertThat(cache.get(1L, 2L, () -> results("reloaded")))
+                .extracting(BuildComparisonResult::getTestCaseName).containsExactly("reloaded");
+    }
+
+    private double gets(String result) {
+        return registry.get("rtd.compare.cache.gets").tag("result", result).functionCounter().count();
+    }
+
+    private static List<BuildComparisonResult> results(String name) {
+        return List.of(new BuildComparisonResult(name, null, "PASS", "PASS", null, null, StatusChange.SAME,
+                null, null, false, null));
+    }
+}
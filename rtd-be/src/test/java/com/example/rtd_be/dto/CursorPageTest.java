@@ -0,0 +1,38 @@
+package com.example.rtd_be.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorPageTest {
+
+    @Test
+    void nextCursorIsTheLastIdWhenMoreRowsFollow() {
+        CursorPage<Long> page = CursorPage.of(new SliceImpl<>(List.of(7L, 5L, 3L), PageRequest.of(0, 3), true), id -> id);
+
+        assertThat(page.getItems()).containsExactly(7L, 5L, 3L);
+        assertThat(page.getSize()).isEqualTo(3);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo(3L);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        CursorPage<Long> page = CursorPage.of(new SliceImpl<>(List.of(1L, 2L), PageRequest.of(0, 3), false), id -> id);
+
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void emptyPageHasNoCursor() {
+        CursorPage<Long> page = CursorPage.of(new SliceImpl<>(List.<Long>of(), PageRequest.of(0, 3), false), id -> id);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getSize()).isZero();
+        assertThat(page.getNextCursor()).isNull();
+    }
+}
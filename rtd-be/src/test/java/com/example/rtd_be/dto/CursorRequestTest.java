@@ -0,0 +1,62 @@
+package com.example.rtd_be.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorRequestTest {
+
+    @Test
+    void ascendingStartsBeforeTheFirstId() {
+        CursorRequest request = new CursorRequest();
+
+        assertThat(request.isAscending()).isTrue();
+        assertThat(request.cursor()).isZero();
+        assertThat(request.toPageable().getSort().getOrderFor("id").getDirection()).isEqualTo(Sort.Direction.ASC);
+    }
+
+    @Test
+    void descendingStartsAfterTheLastId() {
+        CursorRequest request = new CursorRequest();
+        request.setDirection("desc");
+
+        assertThat(request.isAscending()).isFalse();
+        assertThat(request.cursor()).isEqualTo(Long.MAX_VALUE);
+        assertThat(request.toPageable().getSort().getOrderFor("id").getDirection()).isEqualTo(Sort.Direction.DESC);
+    }
+
+    @Test
+    void explicitCursorIsUsedInEitherDirection() {
+        CursorRequest request = new CursorRequest();
+        request.setAfter(42L);
+        assertThat(request.cursor()).isEqualTo(42L);
+
+        request.setDirection("DESC");
+        assertThat(request.cursor()).isEqualTo(42L);
+    }
+
+    @Test
+    void pageSizeIsDefaultedAndClamped() {
+        CursorRequest request = new CursorRequest();
+        assertThat(request.toPageable().getPageSize()).isEqualTo(CursorRequest.DEFAULT_PAGE_SIZE);
+
+        request.setSize(0);
+        assertThat(request.toPageable().getPageSize()).isEqualTo(1);
+
+        request.setSize(CursorRequest.MAX_PAGE_SIZE + 1);
+        assertThat(request.toPageable().getPageSize()).isEqualTo(CursorRequest.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void pageableAlwaysReadsTheFirstSlice() {
+        CursorRequest request = new CursorRequest();
+        request.setAfter(1000L);
+        request.setSize(20);
+
+        Pageable pageable = request.toPageable();
+        assertThat(pageable.getPageNumber()).isZero();
+        assertThat(pageable.getOffset()).isZero();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.rtd_be.history;
+
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DurationStatsTrackerTest {
+
+    @Test
+    void emptyAndSingleSampleHaveNoSpread() {
+        DurationStatsTracker.Stats one = DurationStatsTracker.Stats.EMPTY.add(1, 4.0);
+
+        assertThat(DurationStatsTracker.Stats.EMPTY.stdDev()).isZero();
+        assertThat(one.samples()).isEqualTo(1);
+        assertThat(one.mean()).isEqualTo(4.0);
+        assertThat(one.stdDev()).isZero();
+        assertThat(one.lastBuildId()).isEqualTo(1);
+    }
+
+    @Test
+    void matchesTheSampleMeanAndStandardDeviation() {
+        double[] values = { 2, 4, 4, 4, 5, 5, 7, 9 };
+        DurationStatsTracker.Stats stats = fold(values);
+
+        assertThat(stats.samples()).isEqualTo(8);
+        assertThat(stats.mean()).isEqualTo(5.0);
+        assertThat(stats.stdDev()).isCloseTo(Math.sqrt(32.0 / 7), within(1e-12));
+        assertThat(stats.lastBuildId()).isEqualTo(8);
+    }
+
+    @Test
+    void staysAccurateForLargeOffsets() {
+        Random random = new Random(7);
+        double[] noise = new double[10_000];
+        double[] values = new double[noise.length];
+        for (int i = 0; i < values.length; i++) {
+            noise[i] = random.nextGaussian();
+            values[i] = 1e9 + noise[i];
+        }
+
+        DurationStatsTracker.Stats stats = fold(values);
+
+        double mean = 0;
+        for (double value : noise) {
+            mean += value;
+        }
+        mean /= noise.length;
+        double squares = 0;
+        for (double value : noise) {
+            squares += (value - mean) * (value - mean);
+        }
+        assertThat(stats.mean()).isCloseTo(1e9 + mean, within(1e-5));
+        assertThat(stats.stdDev()).isCloseTo(Math.sqrt(squares / (noise.length - 1)), within(1e-6));
+    }
+
+    @Test
+    void constantDurationsHaveZeroSpread() {
+        assertThat(fold(new double[] { 1.5, 1.5, 1.5, 1.5 }).stdDev()).isZero();
+    }
+
+    private static DurationStatsTracker.Stats fold(double[] values) {
+        DurationStatsTracker.Stats stats = DurationStatsTracker.Stats.EMPTY;
+        for (int i = 0; i < values.length; i++) {
+            stats = stats.add(i + 1, values[i]);
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.rtd_be.history;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlakinessTrackerTest {
+
+    private final FlakinessTracker tracker = new FlakinessTracker(null, 4, 3, 0.3);
+
+    @Test
+    void newestOutcomeIsTheLowestBit() {
+        FlakinessTracker.State state = outcomes(true, false, false);
+
+        assertThat(state.outcomes()).isEqualTo(0b100);
+        assertThat(state.observations()).isEqualTo(3);
+        assertThat(state.lastBuildId()).isEqualTo(3);
+    }
+
+    @Test
+    void alternatingOutcomesFlipEveryBuild() {
+        FlakinessTracker.State state = outcomes(false, true, false, true);
+
+        assertThat(FlakinessTracker.flips(state)).isEqualTo(3);
+        assertThat(FlakinessTracker.flipRate(state)).isEqualTo(1.0);
+    }
+
+    @Test
+    void stableOutcomesNeverFlip() {
+        assertThat(FlakinessTracker.flips(outcomes(true, true, true, true))).isZero();
+        assertThat(FlakinessTracker.flips(outcomes(false, false, false))).isZero();
+    }
+
+    @Test
+    void windowKeepsOnlyTheMostRecentOutcomes() {
+        FlakinessTracker.State state = outcomes(true, false, false, false, false, true);
+
+        assertThat(state.observations()).isEqualTo(4);
+        assertThat(state.outcomes()).isEqualTo(0b0001);
+        assertThat(FlakinessTracker.flips(state)).isEqualTo(1);
+        assertThat(FlakinessTracker.flipRate(state)).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    void leadingPassesBeforeTheFirstObservationAreNotFlips() {
+        FlakinessTracker.State state = outcomes(true);
+
+        assertThat(FlakinessTracker.flips(state)).isZero();
+        assertThat(FlakinessTracker.flipRate(state)).isZero();
+    }
+
+    @Test
+    void rateIsOnlyReportedWithEnoughBuildsAndAFlip() {
+        assertThat(tracker.reportedRate(null)).isNull();
+        assertThat(tracker.reportedRate(outcomes(false, true))).isNull();
+        assertThat(tracker.reportedRate(outcomes(false, false, false))).isNull();
+        assertThat(tracker.reportedRate(outcomes(false, true, true))).isEqualTo(0.5);
+    }
+
+    private FlakinessTracker.State outcomes(boolean... failed) {
+        FlakinessTracker.State state = null;
+        for (int i = 0; i < failed.length; i++) {
+            state = tracker.advance(state, i + 1, failed[i]);
+        }
+        return state;
+    }
+}
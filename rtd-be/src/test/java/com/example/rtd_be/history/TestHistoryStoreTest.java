@@ -0,0 +1,135 @@
+package com.example.rtd_be.history;
+
+import com.example.rtd_be.IntegrationTest;
+import com.example.rtd_be.model.TestCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.rtd_be.model.TestCase.Status.FAIL;
+import static com.example.rtd_be.model.TestCase.Status.PASS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TestHistoryStoreTest extends IntegrationTest {
+
+    private static final AtomicInteger RUN = new AtomicInteger();
+
+    @Autowired
+    private TestHistoryStore historyStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String prefix;
+
+    @BeforeEach
+    void setUp() {
+        prefix = "history" + RUN.incrementAndGet() + ".";
+    }
+
+    @Test
+    void removingTheLatestResultRebuildsTheFlakinessWindow() {
+        long testId = definition("Flaky");
+        List<Long> builds = record(testId, PASS, FAIL, PASS, FAIL, PASS, FAIL);
+
+        historyStore.removeResults(builds.get(5), List.of(testId));
+
+        assertThat(flakiness(testId)).containsEntry("last_build_id", builds.get(4))
+                .containsEntry("observations", 5)
+                .containsEntry("outcomes", 0b01010L)
+                .containsEntry("flips", 4);
+    }
+
+    @Test
+    void removingABuildRebuildsTheWindowOfEachOfItsTests() {
+        long first = definition("First");
+        long second = definition("Second");
+        List<Long> builds = record(first, FAIL, FAIL, PASS);
+        for (int i = 0; i < builds.size(); i++) {
+            historyStore.recordResults(builds.get(i), List.of(new ResultEntry(second, i == 2 ? FAIL : PASS, null)));
+        }
+
+        historyStore.removeBuild(builds.get(2));
+
+        assertThat(flakiness(first)).containsEntry("last_build_id", builds.get(1))
+                .containsEntry("observations", 2)
+                .containsEntry("flips", 0);
+        assertThat(flakiness(second)).containsEntry("observations", 2)
+                .containsEntry("outcomes", 0L);
+    }
+
+    @Test
+    void removingTheOnlyResultDropsTheFlakinessRow() {
+        long testId = definition("Once");
+        List<Long> builds = record(testId, FAIL);
+
+        historyStore.removeResults(builds.get(0), List.of(testId));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM test_flakiness WHERE test_id = ?",
+                Integer.class, testId)).isZero();
+    }
+
+    @Test
+    void removedDurationsLeaveTheStatistics() {
+        long testId = definition("Timed");
+        List<Long> builds = new ArrayList<>();
+        for (double duration : new double[] { 1.0, 2.0, 3.0, 10.0 }) {
+            long buildId = build();
+            historyStore.recordResults(buildId, List.of(new ResultEntry(testId, PASS, duration)));
+            builds.add(buildId);
+        }
+
+        historyStore.removeResults(builds.get(3), List.of(testId));
+
+        Map<String, Object> stats = durationStats(testId);
+        assertThat(stats).containsEntry("last_build_id", builds.get(2)).containsEntry("samples", 3L);
+        assertThat((Double) stats.get("mean")).isCloseTo(2.0, within(1e-9));
+        assertThat((Double) stats.get("m2")).isCloseTo(2.0, within(1e-9));
+
+        historyStore.removeBuild(builds.get(0));
+        historyStore.removeBuild(builds.get(1));
+        historyStore.removeBuild(builds.get(2));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM test_duration_stats WHERE test_id = ?",
+                Integer.class, testId)).isZero();
+    }
+
+    /** Records one build per status, oldest first, and returns the builds. */
+    private List<Long> record(long testId, TestCase.Status... statuses) {
+        List<Long> builds = new ArrayList<>();
+        for (TestCase.Status status : statuses) {
+            long buildId = build();
+            historyStore.recordResults(buildId, List.of(new ResultEntry(testId, status, 1.0)));
+            builds.add(buildId);
+        }
+        return builds;
+    }
+
+    private long definition(String name) {
+        jdbcTemplate.update("INSERT INTO test_definitions (name, module) VALUES (?, 'core')", prefix + name);
+        return jdbcTemplate.queryForObject("SELECT id FROM test_definitions WHERE name = ?", Long.class,
+                prefix + name);
+    }
+
+    private long build() {
+        String version = prefix + "b" + RUN.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO builds (version, created_at) VALUES (?, CURRENT_TIMESTAMP(6))", version);
+        return jdbcTemplate.queryForObject("SELECT id FROM builds WHERE version = ?", Long.class, version);
+    }
+
+    private Map<String, Object> durationStats(long testId) {
+        return jdbcTemplate.queryForMap("SELECT last_build_id, samples, mean, m2 FROM test_duration_stats"
+                + " WHERE test_id = ?", testId);
+    }
+
+    private Map<String, Object> flakiness(long testId) {
+        return jdbcTemplate.queryForMap("SELECT last_build_id, outcomes, observations, flips FROM test_flakiness"
+                + " WHERE test_id = ?", testId);
+    }
+}
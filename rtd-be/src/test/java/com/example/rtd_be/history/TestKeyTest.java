@@ -0,0 +1,26 @@
+package com.example.rtd_be.history;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TestKeyTest {
+
+    @Test
+    void blankModuleIsNoModule() {
+        assertThat(new TestKey("a.Test", "")).isEqualTo(new TestKey("a.Test", null));
+        assertThat(new TestKey("a.Test", "  ").module()).isNull();
+    }
+
+    @Test
+    void trailingSpacesAreIgnoredLikeTheUniqueKey() {
+        assertThat(new TestKey("a.Test ", "core ")).isEqualTo(new TestKey("a.Test", "core"));
+    }
+
+    @Test
+    void modulesAndCaseTellTestsApart() {
+        assertThat(new TestKey("a.Test", "core")).isNotEqualTo(new TestKey("a.Test", "web"));
+        assertThat(new TestKey("a.Test", "core")).isNotEqualTo(new TestKey("a.Test", "Core"));
+        assertThat(new TestKey("a.Test", " core")).isNotEqualTo(new TestKey("a.Test", "core"));
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.rtd_be.importer;
+
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void quotedFieldsMayContainCommasQuotesAndNewlines() throws IOException {
+        List<List<String>> records = read("\"a,b\",\"say \"\"hi\"\"\",\"line1\nline2\"\nplain,\"\",x\n");
+
+        assertThat(records).containsExactly(
+                List.of("a,b", "say \"hi\"", "line1\nline2"),
+                List.of("plain", "", "x"));
+    }
+
+    @Test
+    void crlfAndLfLineEndingsAreBothAccepted() throws IOException {
+        assertThat(read("a,b\r\nc,d\ne,f\r\n")).containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e", "f"));
+    }
+
+    @Test
+    void lastRecordNeedsNoLineBreak() throws IOException {
+        assertThat(read("a,b\nc,d")).containsExactly(List.of("a", "b"), List.of("c", "d"));
+    }
+
+    @Test
+    void byteOrderMarkIsSkipped() throws IOException {
+        assertThat(read("\uFEFFname,status\n")).containsExactly(List.of("name", "status"));
+    }
+
+    @Test
+    void blankLinesHaveNoFieldsAndEmptyFieldsAreKept() throws IOException {
+        assertThat(read("a\n\n  \n,,\n")).containsExactly(List.of("a"), List.of(), List.of(), List.of("", "", ""));
+    }
+
+    @Test
+    void unquotedFieldsAreTrimmed() throws IOException {
+        assertThat(read("  a , b\t,\" c \"\n")).containsExactly(List.of("a", "b", " c "));
+    }
+
+    @Test
+    void multiByteValuesSurviveBufferRefills() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        List<List<String>> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String name = "tëst-" + i + "-\"ü\"";
+            csv.append('"').append(name.replace("\"", "\"\"")).append("\",模块").append(i).append("\r\n");
+            expected.add(List.of(name, "模块" + i));
+        }
+
+        assertThat(read(csv.toString(), 4, 1024)).isEqualTo(expected);
+    }
+
+    @Test
+    void numbersParseWithoutStrings() throws IOException {
+        CsvReader reader = reader("1.5,-2,+0.25,12345678901234567890,1e3,0.1", 64, 1024);
+        reader.nextRecord();
+
+        assertThat(reader.getDouble(0)).isEqualTo(1.5);
+        assertThat(reader.getDouble(1)).isEqualTo(-2.0);
+        assertThat(reader.getDouble(2)).isEqualTo(0.25);
+        assertThat(reader.getDouble(3)).isEqualTo(1.2345678901234567e19);
+        assertThat(reader.getDouble(4)).isEqualTo(1000.0);
+        assertThat(reader.getDouble(5)).isEqualTo(0.1);
+    }
+
+    @Test
+    void malformedNumberFails() throws IOException {
+        CsvReader reader = reader("1.2.3,abc", 64, 1024);
+        reader.nextRecord();
+
+        assertThatThrownBy(() -> reader.getDouble(0)).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> reader.getDouble(1)).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void recordLongerThanTheLimitFails() {
+        String csv = "short,row\n" + "x".repeat(100) + "\n";
+
+        assertThatThrownBy(() -> read(csv, 8, 64))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("CSV record 2")
+                .hasMessageContaining("64 bytes");
+    }
+
+    @Test
+    void unclosedQuoteFailsInsteadOfBufferingTheFile() {
+        String csv = "a,\"never closed\n" + "b,c\n".repeat(100);
+
+        assertThatThrownBy(() -> read(csv, 8, 64))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("unclosed quote");
+    }
+
+    @Test
+    void recordUpToTheLimitIsRead() throws IOException {
+        String value = "x".repeat(64);
+
+        assertThat(read(value + "\n" + value + "\n", 8, 64)).containsExactly(List.of(value), List.of(value));
+    }
+
+    private static List<List<String>> read(String csv) throws IOException {
+        return read(csv, 64 * 1024, 1024 * 1024);
+    }
+
+    private static List<List<String>> read(String csv, int bufferSize, int maxRecordLength) throws IOException {
+        CsvReader reader = reader(csv, bufferSize, maxRecordLength);
+        List<List<String>> records = new ArrayList<>();
+        while (reader.nextRecord()) {
+            List<String> fields = new ArrayList<>();
+            for (int i = 0; i < reader.fieldCount(); i++) {
+                fields.add(reader.getString(i));
+            }
+            records.add(fields);
+        }
+        return records;
+    }
+
+    private static CsvReader reader(String csv, int bufferSize, int maxRecordLength) throws IOException {
+        return new CsvReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), bufferSize,
+                maxRecordLength);
+    }
+}
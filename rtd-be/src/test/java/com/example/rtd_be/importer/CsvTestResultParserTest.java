@@ -0,0 +1,64 @@
+package com.example.rtd_be.importer;
+
+import com.example.rtd_be.dto.TestResultImport;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class CsvTestResultParserTest {
+
+    private final CsvTestResultParser parser = new CsvTestResultParser(DataSize.ofKilobytes(1));
+
+    @Test
+    void columnsAreMatchedByHeaderName() throws IOException {
+        RecordingSink sink = parse("Duration,STATUS,module,name\n1.5,pass,core,\"a, quoted\"\n,Fail,,b\n");
+
+        assertThat(sink.rows).extracting(TestResultImport::getTestCaseName, TestResultImport::getModule,
+                        TestResultImport::getStatus, TestResultImport::getDuration)
+                .containsExactly(tuple("a, quoted", "core", "PASS", 1.5), tuple("b", "", "FAIL", null));
+    }
+
+    @Test
+    void unnamedColumnsFallBackToTheDefaultOrder() throws IOException {
+        RecordingSink sink = parse("test,suite,result,time\nt1,core,BLOCKED,2\n");
+
+        assertThat(sink.rows).extracting(TestResultImport::getTestCaseName, TestResultImport::getStatus)
+                .containsExactly(tuple("t1", "BLOCKED"));
+    }
+
+    @Test
+    void invalidRowsAreRejected() throws IOException {
+        RecordingSink sink = parse("testCaseName,module,status,duration\nshort\na,m,UNKNOWN,1\nb,m,PASS,slow\n\nc,m,PENDING,\n");
+
+        assertThat(sink.rows).extracting(TestResultImport::getTestCaseName).containsExactly("c");
+        assertThat(sink.rejected).isEqualTo(3);
+    }
+
+    private RecordingSink parse(String csv) throws IOException {
+        RecordingSink sink = new RecordingSink();
+        parser.parse(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), sink);
+        return sink;
+    }
+
+    private static final class RecordingSink implements TestResultSink {
+        private final List<TestResultImport> rows = new ArrayList<>();
+        private int rejected;
+
+        @Override
+        public void accept(TestResultImport row) {
+            rows.add(row);
+        }
+
+        @Override
+        public void reject() {
+            rejected++;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.rtd_be.importer;
+
+import com.example.rtd_be.dto.TestResultImport;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class JUnitXmlParserTest {
+
+    private final JUnitXmlParser parser = new JUnitXmlParser();
+
+    @Test
+    void testCasesMapToNameModuleStatusAndDuration() throws IOException {
+        RecordingSink sink = parse("""
+                <testsuite name="suite">
+                  <testcase classname="com.example.FooTest" name="passes" time="0.25"/>
+                  <testcase classname="com.example.FooTest" name="fails" time="1.5">
+                    <failure message="boom"/>
+                  </testcase>
+                  <testcase classname="com.example.FooTest" name="skipped"><skipped/></testcase>
+                </testsuite>""");
+
+        assertThat(sink.rows).extracting(TestResultImport::getTestCaseName, TestResultImport::getModule,
+                        TestResultImport::getStatus, TestResultImport::getDuration)
+                .containsExactly(
+                        tuple("com.example.FooTest.passes", "com.example.FooTest", "PASS", 0.25),
+                        tuple("com.example.FooTest.fails", "com.example.FooTest", "FAIL", 1.5),
+                        tuple("com.example.FooTest.skipped", "com.example.FooTest", "BLOCKED", null));
+    }
+
+    @Test
+    void decimalCommaIsTheDecimalPoint() throws IOException {
+        RecordingSink sink = parse("""
+                <testsuite>
+                  <testcase classname="A" name="half" time="0,5"/>
+                  <testcase classname="A" name="long" time="12,75"/>
+                </testsuite>""");
+
+        assertThat(sink.rows).extracting(TestResultImport::getDuration).containsExactly(0.5, 12.75);
+    }
+
+    @Test
+    void thousandsSeparatorsAreDropped() throws IOException {
+        RecordingSink sink = parse("""
+                <testsuite>
+                  <testcase classname="A" name="slow" time="1,234.5"/>
+                  <testcase classname="A" name="slower" time="12,345,678"/>
+                </testsuite>""");
+
+        assertThat(sink.rows).extracting(TestResultImport::getDuration).containsExactly(1234.5, 12345678.0);
+    }
+
+    @Test
+    void ambiguousOrInvalidTimesRejectTheRow() throws IOException {
+        RecordingSink sink = parse("""
+                <testsuite>
+                  <testcase classname="A" name="mixed" time="1.234,5"/>
+                  <testcase classname="A" name="misgrouped" time="12,34.5"/>
+                  <testcase classname="A" name="words" time="slow"/>
+                  <testcase classname="A" name="ok" time="2"/>
+                </testsuite>""");
+
+        assertThat(sink.rows).extracting(TestResultImport::getTestCaseName).containsExactly("A.ok");
+        assertThat(sink.rejected).isEqualTo(3);
+    }
+
+    @Test
+    void parseTimeKeepsPlainNumbers() {
+        assertThat(JUnitXmlParser.parseTime(" 3.25 ")).isEqualTo(3.25);
+        assertThat(JUnitXmlParser.parseTime("0,500")).isEqualTo(0.5);
+        assertThatThrownBy(() -> JUnitXmlParser.parseTime("1,2,3")).isInstanceOf(NumberFormatException.class);
+    }
+
+    private RecordingSink parse(String xml) throws IOException {
+        RecordingSink sink = new RecordingSink();
+        parser.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), sink);
+        return sink;
+    }
+
+    private static final class RecordingSink implements TestResultSink {
+        private final List<TestResultImport> rows = new ArrayList<>();
+        private int rejected;
+
+        @Override
+        public void accept(TestResultImport row) {
+            rows.add(row);
+        }
+
+        @Override
+        public void reject() {
+            rejected++;
+        }
+    }
+}
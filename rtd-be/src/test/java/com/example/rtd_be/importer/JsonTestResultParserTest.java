@@ -0,0 +1,76 @@
+package com.example.rtd_be.importer;
+
+import com.example.rtd_be.dto.TestResultImport;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonTestResultParserTest {
+
+    private final JsonTestResultParser parser = new JsonTestResultParser(
+            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+
+    @Test
+    void badlyTypedRowIsRejectedAndParsingContinues() throws IOException {
+        RecordingSink sink = parse("""
+                [
+                  {"testCaseName": "a", "status": "PASS", "duration": 1.5},
+                  {"testCaseName": "b", "status": "FAIL", "duration": "slow", "extra": {"nested": [1, 2]}},
+                  {"testCaseName": "c", "status": "PASS", "duration": 2}
+                ]""");
+
+        assertThat(sink.rows).extracting(TestResultImport::getTestCaseName).containsExactly("a", "c");
+        assertThat(sink.rows.get(1).getDuration()).isEqualTo(2.0);
+        assertThat(sink.rejected).isEqualTo(1);
+    }
+
+    @Test
+    void nonObjectElementsAreRejected() throws IOException {
+        RecordingSink sink = parse("[1, \"x\", [{\"testCaseName\": \"nested\"}], {\"testCaseName\": \"a\"}]");
+
+        assertThat(sink.rows).extracting(TestResultImport::getTestCaseName).containsExactly("a");
+        assertThat(sink.rejected).isEqualTo(3);
+    }
+
+    @Test
+    void topLevelMustBeAnArray() {
+        assertThatThrownBy(() -> parse("{\"testCaseName\": \"a\"}"))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("JSON array");
+    }
+
+    @Test
+    void truncatedInputFails() {
+        assertThatThrownBy(() -> parse("[{\"testCaseName\": \"a\"}, {\"testCaseName\""))
+                .isInstanceOf(IOException.class);
+    }
+
+    private RecordingSink parse(String json) throws IOException {
+        RecordingSink sink = new RecordingSink();
+        parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), sink);
+        return sink;
+    }
+
+    private static final class RecordingSink implements TestResultSink {
+        private final List<TestResultImport> rows = new ArrayList<>();
+        private int rejected;
+
+        @Override
+        public void accept(TestResultImport row) {
+            rows.add(row);
+        }
+
+        @Override
+        public void reject() {
+            rejected++;
+        }
+    }
+}
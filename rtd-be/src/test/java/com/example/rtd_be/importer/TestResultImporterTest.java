@@ -0,0 +1,142 @@
+package com.example.rtd_be.importer;
+
+import com.example.rtd_be.IntegrationTest;
+import com.example.rtd_be.dto.ImportSummary;
+import com.example.rtd_be.model.Build;
+import com.example.rtd_be.model.TestCase;
+import com.example.rtd_be.repository.BuildRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestResultImporterTest extends IntegrationTest {
+
+    private static final String HEADER = "testCaseName,module,status,duration\n";
+
+    @Autowired
+    private TestResultImporter importer;
+
+    @Autowired
+    private BuildRepository buildRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Build build;
+
+    @BeforeEach
+    void createBuild() {
+        build = new Build();
+        build.setVersion("importer-test");
+        build = buildRepository.save(build);
+    }
+
+    @Test
+    void upsertIsTheDefaultAndRetriesAreNoOps() throws IOException {
+        String csv = HEADER + "importer.A,importer,PASS,1.0\nimporter.B,importer,FAIL,2.0\n";
+
+        ImportSummary first = importer.importResults(build, "results.csv", csv(csv));
+        ImportSummary retry = importer.importResults(build, "results.csv", csv(csv));
+
+        assertThat(first.getMode()).isEqualTo(ImportMode.UPSERT);
+        assertThat(first.getRowsInserted()).isEqualTo(2);
+        assertThat(retry.getRowsInserted()).isZero();
+        assertThat(retry.getRowsUnchanged()).isEqualTo(2);
+        assertThat(retry.getStatusDeltas()).containsEntry(TestCase.Status.PASS, 0L)
+                .containsEntry(TestCase.Status.FAIL, 0L);
+        assertThat(statuses()).containsExactlyInAnyOrderEntriesOf(Map.of("importer.A", "PASS", "importer.B", "FAIL"));
+    }
+
+    @Test
+    void repeatedTestInOneFileKeepsItsLastRow() throws IOException {
+        String csv = HEADER + "importer.A,importer,PASS,1.0\nimporter.A,importer,FAIL,3.0\nimporter.B,importer,PASS,1.0\n";
+
+        ImportSummary summary = importer.importResults(build, "results.csv", csv(csv), ImportMode.UPSERT,
+                ImportProgressListener.NONE);
+
+        assertThat(summary.getRowsImported()).isEqualTo(3);
+        assertThat(summary.getRowsInserted()).isEqualTo(2);
+        assertThat(summary.getRowsDuplicate()).isEqualTo(1);
+        assertThat(summary.getRowsUnchanged()).isZero();
+        assertThat(summary.getStatusDeltas()).containsEntry(TestCase.Status.FAIL, 1L)
+                .containsEntry(TestCase.Status.PASS, 1L);
+        assertThat(statuses()).containsEntry("importer.A", "FAIL");
+    }
+
+    @Test
+    void insertDedupesWithinTheFile() throws IOException {
+        String csv = HEADER + "importer.A,importer,PASS,1.0\nimporter.A,importer,FAIL,3.0\n";
+
+        ImportSummary summary = importer.importResults(build, "results.csv", csv(csv), ImportMode.INSERT,
+                ImportProgressListener.NONE);
+
+        assertThat(summary.getRowsInserted()).isEqualTo(1);
+        assertThat(summary.getRowsDuplicate()).isEqualTo(1);
+        assertThat(statuses()).containsExactlyEntriesOf(Map.of("importer.A", "FAIL"));
+    }
+
+    @Test
+    void insertIntoAPopulatedBuildFailsWithAClearError() throws IOException {
+        importer.importResults(build, "results.csv", csv(HEADER + "importer.A,importer,PASS,1.0\n"));
+
+        assertThatThrownBy(() -> importer.importResults(build, "results.csv",
+                csv(HEADER + "importer.A,importer,FAIL,1.0\n"), ImportMode.INSERT, ImportProgressListener.NONE))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("mode=UPSERT");
+        assertThat(statuses()).containsExactlyEntriesOf(Map.of("importer.A", "PASS"));
+    }
+
+    @Test
+    void sameNameInTwoModulesIsTwoTests() throws IOException {
+        String csv = HEADER + "importer.Shared,alpha,PASS,1.0\nimporter.Shared,beta,FAIL,2.0\n";
+
+        ImportSummary summary = importer.importResults(build, "results.csv", csv(csv));
+
+        assertThat(summary.getRowsInserted()).isEqualTo(2);
+        assertThat(summary.getRowsDuplicate()).isZero();
+        assertThat(modules(build, "importer.Shared")).containsExactlyInAnyOrder("alpha", "beta");
+    }
+
+    @Test
+    void aNewModuleLeavesEarlierBuildsOnTheirDefinition() throws IOException {
+        Build next = new Build();
+        next.setVersion("importer-test-next");
+        next = buildRepository.save(next);
+
+        importer.importResults(build, "results.csv", csv(HEADER + "importer.Moved,before,PASS,1.0\n"));
+        importer.importResults(next, "results.csv", csv(HEADER + "importer.Moved,after,PASS,1.0\n"));
+
+        assertThat(modules(build, "importer.Moved")).containsExactly("before");
+        assertThat(modules(next, "importer.Moved")).containsExactly("after");
+        assertThat(jdbcTemplate.queryForList("SELECT module FROM test_definitions WHERE name = ?",
+                String.class, "importer.Moved")).containsExactlyInAnyOrder("before", "after");
+    }
+
+    private List<String> modules(Build target, String name) {
+        return jdbcTemplate.queryForList("SELECT d.module FROM test_cases t JOIN test_definitions d ON d.id = t.test_id"
+                + " WHERE t.build_id = ? AND d.name = ?", String.class, target.getId(), name);
+    }
+
+    private Map<String, String> statuses() {
+        Map<String, String> statuses = new HashMap<>();
+        jdbcTemplate.query("SELECT d.name, t.status FROM test_cases t JOIN test_definitions d ON d.id = t.test_id"
+                + " WHERE t.build_id = ?", rs -> {
+            statuses.put(rs.getString("name"), rs.getString("status"));
+        }, build.getId());
+        return statuses;
+    }
+
+    private static ByteArrayInputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.rtd_be.persistence;
+
+import com.example.rtd_be.IntegrationTest;
+import com.example.rtd_be.security.JwtUtil;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets per endpoint, read from the same "rtd.http.statements"
+ * summary production reports. A change that makes an endpoint run more
+ * statements fails here; raise the budget only together with the change that
+ * needs it.
+ */
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatementBudgetTest extends IntegrationTest {
+
+    private static final int TESTS = 60;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String token;
+    private long build1Id;
+    private long build2Id;
+
+    @BeforeAll
+    void seed() {
+        token = jwtUtil.generateToken("budget-admin", "ADMIN");
+        build1Id = build("budget-1");
+        build2Id = build("budget-2");
+        for (int i = 0; i < TESTS; i++) {
+            jdbcTemplate.update("INSERT INTO test_definitions (name, module) VALUES (?, ?)",
+                    "budget.Test" + i, "budget.Module" + (i % 3));
+        }
+        for (long buildId : new long[] { build1Id, build2Id }) {
+            jdbcTemplate.update("INSERT INTO test_cases (test_id, build_id, status, duration)"
+                    + " SELECT id, ?, IF((id + ?) % 4 = 0, 'FAIL', 'PASS'), 1.0"
+                    + " FROM test_definitions WHERE name LIKE 'budget.%'", buildId, buildId);
+            jdbcTemplate.update("INSERT INTO test_results (test_id, build_id, status, duration, recorded_at)"
+                    + " SELECT test_id, build_id, status, duration, CURRENT_TIMESTAMP(6)"
+                    + " FROM test_cases WHERE build_id = ?", buildId);
+            jdbcTemplate.update("INSERT INTO regression_runs (build_id, executed_at, total_tests, passed, failed)"
+                    + " VALUES (?, CURRENT_TIMESTAMP(6), 0, 0, 0)", buildId);
+        }
+    }
+
+    @Test
+    void listsStayWithinBudget() throws Exception {
+        assertBudget("/api/builds", 1, "/api/builds?size=100");
+        assertBudget("/api/testcases", 2, "/api/testcases?size=100");
+        assertBudget("/api/testcases/build/{buildId}", 2, "/api/testcases/build/{buildId}?size=100", build2Id);
+        assertBudget("/api/regression", 1, "/api/regression?size=100");
+        assertBudget("/api/regression/build/{buildId}", 1, "/api/regression/build/{buildId}", build2Id);
+        assertBudget("/api/users", 1, "/api/users?size=100");
+    }
+
+    @Test
+    void analyticsStayWithinBudget() throws Exception {
+        assertBudget("/api/dashboard/stats", 2, "/api/dashboard/stats");
+        assertBudget("/api/testcases/flaky", 1, "/api/testcases/flaky");
+        assertBudget("/api/testcases/history", 2, "/api/testcases/history?name=budget.Test1");
+        assertBudget("/api/testcases/build/{buildId}/duration-regressions", 1,
+                "/api/testcases/build/{buildId}/duration-regressions", build2Id);
+        // Flip rates of both builds, duration regressions and the two builds' results.
+        assertBudget("/api/testcases/compare", 5,
+                "/api/testcases/compare?build1Id={build1Id}&build2Id={build2Id}", build1Id, build2Id);
+    }
+
+    private void assertBudget(String uri, int budget, String url, Object... uriVars) throws Exception {
+        long requestsBefore = summary(uri) != null ? summary(uri).count() : 0;
+        double statementsBefore = summary(uri) != null ? summary(uri).totalAmount() : 0;
+        mockMvc.perform(get(url, uriVars)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        DistributionSummary summary = summary(uri);
+        assertThat(summary).as("statement summary for GET %s", uri).isNotNull();
+        assertThat(summary.count()).isEqualTo(requestsBefore + 1);
+        assertThat(summary.totalAmount() - statementsBefore).as("statements run by GET %s", uri)
+                .isLessThanOrEqualTo(budget);
+    }
+
+    private DistributionSummary summary(String uri) {
+        return meterRegistry.find("rtd.http.statements")
+                .tags("method", "GET", "uri", uri)
+                .summary();
+    }
+
+    private long build(String version) {
+        jdbcTemplate.update("INSERT INTO builds (version, created_at) VALUES (?, CURRENT_TIMESTAMP(6))", version);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM builds WHERE version = ?", Long.class, version);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.rtd_be.persistence;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementTrackerTest {
+
+    private final StatementTracker tracker = new StatementTracker(Duration.ofSeconds(5), 20);
+
+    @Test
+    void literalsAndWhitespaceCollapse() {
+        assertThat(StatementTracker.normalize(
+                "SELECT id FROM test_cases\n  WHERE name = 'it''s' AND build_id = 42 AND duration > 1.5"))
+                .isEqualTo("SELECT id FROM test_cases WHERE name = ? AND build_id = ? AND duration > ?");
+    }
+
+    @Test
+    void inListsOfAnyLengthShareOneShape() {
+        assertThat(StatementTracker.normalize("SELECT id FROM t WHERE id IN (?, ?, ?)"))
+                .isEqualTo(StatementTracker.normalize("SELECT id FROM t WHERE id IN (?,?)"))
+                .isEqualTo("SELECT id FROM t WHERE id IN (?...)");
+    }
+
+    @Test
+    void multiRowValuesShareOneShape() {
+        assertThat(StatementTracker.normalize("INSERT INTO t (a, b) VALUES (?, ?), (?, ?), (?, ?)"))
+                .isEqualTo("INSERT INTO t (a, b) VALUES (?...)");
+    }
+
+    @Test
+    void digitsInsideIdentifiersAreKept() {
+        assertThat(StatementTracker.normalize("SELECT t2.id FROM test_cases t2"))
+                .isEqualTo("SELECT t2.id FROM test_cases t2");
+    }
+
+    @Test
+    void scopeCountsStatementsAndTheMostRepeatedShape() {
+        try (StatementScope scope = tracker.open()) {
+            run("SELECT * FROM builds WHERE id = 1");
+            run("SELECT * FROM builds WHERE id = 2");
+            run("SELECT COUNT(*) FROM users");
+
+            assertThat(scope.getStatements()).isEqualTo(3);
+            assertThat(scope.getMostRepeated()).isEqualTo("SELECT * FROM builds WHERE id = ?");
+            assertThat(scope.getMostRepeatedCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void innerScopeCountsOnlyItsOwnStatements() {
+        try (StatementScope outer = tracker.open()) {
+            run("SELECT 1");
+            try (StatementScope inner = tracker.open()) {
+                run("SELECT 2");
+                assertThat(inner.getStatements()).isEqualTo(1);
+            }
+            run("SELECT 3");
+
+            assertThat(outer.getStatements()).isEqualTo(2);
+        }
+        run("SELECT 4");
+        assertThat(StatementTracker.CURRENT.get()).isNull();
+    }
+
+    private void run(String sql) {
+        tracker.afterQuery(new ExecutionInfo(), List.of(new QueryInfo(sql)));
+    }
+}
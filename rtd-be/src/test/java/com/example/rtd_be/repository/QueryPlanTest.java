@@ -0,0 +1,128 @@
+package com.example.rtd_be.repository;
+
+import com.example.rtd_be.IntegrationTest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest extends IntegrationTest {
+
+    private static final int BUILDS = 20;
+    private static final int TESTS = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long buildId;
+    private long testId;
+
+    @BeforeAll
+    void seed() {
+        for (int i = 0; i < BUILDS; i++) {
+            jdbcTemplate.update("INSERT INTO builds (version, created_at) VALUES (?, CURRENT_TIMESTAMP(6))",
+                    "plan-" + i);
+        }
+        for (int i = 0; i < TESTS; i++) {
+            jdbcTemplate.update("INSERT INTO test_definitions (name, module) VALUES (?, ?)",
+                    "plan.Test" + i, "plan.Module" + (i % 10));
+        }
+        jdbcTemplate.update("INSERT INTO test_cases (test_id, build_id, status, duration)"
+                + " SELECT d.id, b.id, ELT(1 + (d.id + b.id) % 4, 'PASS', 'FAIL', 'BLOCKED', 'PENDING'), 1.5"
+                + " FROM test_definitions d CROSS JOIN builds b"
+                + " WHERE d.name LIKE 'plan.%' AND b.version LIKE 'plan-%'");
+        jdbcTemplate.update("INSERT INTO test_results (test_id, build_id, status, duration, recorded_at)"
+                + " SELECT test_id, build_id, status, duration, CURRENT_TIMESTAMP(6) FROM test_cases t"
+                + " JOIN builds b ON b.id = t.build_id WHERE b.version LIKE 'plan-%'");
+        jdbcTemplate.update("INSERT INTO regression_runs (build_id, executed_at, total_tests, passed, failed)"
+                + " SELECT id, CURRENT_TIMESTAMP(6), 0, 0, 0 FROM builds WHERE version LIKE 'plan-%'");
+        jdbcTemplate.execute("ANALYZE TABLE builds, test_definitions, test_cases, test_results, regression_runs");
+
+        buildId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM builds WHERE version LIKE 'plan-%'", Long.class);
+        testId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM test_definitions WHERE name LIKE 'plan.%'", Long.class);
+    }
+
+    @Test
+    void statusCountsReadOnlyTheStatusIndex() {
+        Map<String, Object> plan = explain("SELECT status, COUNT(*) FROM test_cases GROUP BY status");
+
+        assertThat(plan.get("key")).isEqualTo("idx_test_cases_status");
+        assertThat(String.valueOf(plan.get("Extra"))).contains("Using index");
+    }
+
+    @Test
+    void buildPageSeeksInsteadOfScanning() {
+        Map<String, Object> plan = explain(
+                "SELECT id FROM test_cases WHERE build_id = ? AND id > ? ORDER BY id LIMIT 50", buildId, 0);
+
+        assertThat(plan.get("type")).isNotEqualTo("ALL");
+        assertThat(plan.get("key")).isNotNull();
+        assertThat(String.valueOf(plan.get("Extra"))).doesNotContain("filesort");
+    }
+
+    @Test
+    void existingRowLookupSeeksOnBuildAndTest() {
+        Map<String, Object> plan = explain(
+                "SELECT test_id, duration, status FROM test_cases WHERE build_id = ? AND test_id IN (?, ?, ?)",
+                buildId, testId, testId + 1, testId + 2);
+
+        assertThat(plan.get("key")).isIn("uk_test_cases_build_test", "idx_test_cases_build_test_status");
+        assertThat(plan.get("type")).isEqualTo("range");
+    }
+
+    @Test
+    void moduleAggregateReadsOnlyTheCoveringIndex() {
+        Map<String, Object> plan = explain(
+                "SELECT d.module, t.status, COUNT(*), SUM(t.duration) FROM test_cases t"
+                        + " JOIN test_definitions d ON d.id = t.test_id WHERE t.build_id = ?"
+                        + " GROUP BY d.module, t.status", buildId);
+
+        assertThat(plan.get("table")).isEqualTo("t");
+        assertThat(plan.get("key")).isEqualTo("idx_test_cases_build_test_status");
+        assertThat(String.valueOf(plan.get("Extra"))).contains("Using index");
+    }
+
+    @Test
+    void runsOfABuildComeOrderedFromTheIndex() {
+        Map<String, Object> plan = explain(
+                "SELECT id FROM regression_runs WHERE build_id = ? ORDER BY executed_at DESC", buildId);
+
+        assertThat(plan.get("key")).isEqualTo("idx_regression_runs_build_executed");
+        assertThat(String.valueOf(plan.get("Extra"))).doesNotContain("filesort");
+    }
+
+    @Test
+    void testHistoryIsOneRangeOfThePrimaryKey() {
+        Map<String, Object> plan = explain(
+                "SELECT build_id, status FROM test_results WHERE test_id = ? AND build_id < ?"
+                        + " ORDER BY build_id DESC LIMIT 20", testId, Long.MAX_VALUE);
+
+        assertThat(plan.get("key")).isEqualTo("PRIMARY");
+        assertThat(String.valueOf(plan.get("Extra"))).doesNotContain("filesort");
+    }
+
+    @Test
+    void definitionLookupUsesTheNameModuleKey() {
+        Map<String, Object> plan = explain("SELECT id FROM test_definitions WHERE name = ?", "plan.Test1");
+
+        assertThat(plan.get("key")).isEqualTo("uk_test_definitions_name_module");
+    }
+
+    @Test
+    void moduleLookupUsesTheWholeKey() {
+        Map<String, Object> plan = explain("SELECT id FROM test_definitions WHERE name = ? AND module_key = ?",
+                "plan.Test1", "plan.Module1");
+
+        assertThat(plan.get("key")).isEqualTo("uk_test_definitions_name_module");
+        assertThat(plan.get("type")).isEqualTo("const");
+    }
+
+    private Map<String, Object> explain(String sql, Object... args) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, args).get(0);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.rtd_be.security;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "unit-test-secret-that-is-at-least-256-bits-long";
+
+    @Test
+    void generatedTokenParsesToItsPrincipal() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 10);
+
+        JwtPrincipal principal = jwtUtil.parseToken(jwtUtil.generateToken("alice", "TESTER"));
+
+        assertThat(principal.username()).isEqualTo("alice");
+        assertThat(principal.role()).isEqualTo("TESTER");
+        assertThat(principal.isExpired(System.currentTimeMillis())).isFalse();
+    }
+
+    @Test
+    void cachedTokenReturnsTheSamePrincipal() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 10);
+        String token = jwtUtil.generateToken("alice", "TESTER");
+
+        assertThat(jwtUtil.parseToken(token)).isSameAs(jwtUtil.parseToken(token));
+    }
+
+    @Test
+    void cacheStaysWithinItsSizeAndEvictedTokensStillParse() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 2);
+        String first = jwtUtil.generateToken("first", "ADMIN");
+        JwtPrincipal cached = jwtUtil.parseToken(first);
+        for (int i = 0; i < 5; i++) {
+            assertThat(jwtUtil.parseToken(jwtUtil.generateToken("user" + i, "TESTER"))).isNotNull();
+            assertThat(jwtUtil.cachedTokens()).isLessThanOrEqualTo(2);
+        }
+
+        assertThat(jwtUtil.parseToken(first)).isEqualTo(cached);
+    }
+
+    @Test
+    void concurrentParsesReturnTheirOwnPrincipal() throws Exception {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 16);
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            tokens.add(jwtUtil.generateToken("user" + i, "TESTER"));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        int user = (i * 7 + offset) % tokens.size();
+                        JwtPrincipal principal = jwtUtil.parseToken(tokens.get(user));
+                        if (principal == null || !principal.username().equals("user" + user)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(jwtUtil.parseToken(jwtUtil.generateToken("late", "ADMIN"))).isNotNull();
+        assertThat(jwtUtil.cachedTokens()).isLessThanOrEqualTo(16);
+    }
+
+    @Test
+    void expiredTamperedAndForeignTokensAreRejected() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 10);
+        String token = jwtUtil.generateToken("alice", "TESTER");
+        String expired = new JwtUtil(SECRET, -1_000L, 10).generateToken("alice", "TESTER");
+        String foreign = new JwtUtil(SECRET + "-other", 60_000L, 10).generateToken("alice", "ADMIN");
+
+        assertThat(jwtUtil.parseToken(expired)).isNull();
+        assertThat(jwtUtil.parseToken(token.substring(0, token.length() - 2) + "xx")).isNull();
+        assertThat(jwtUtil.parseToken(foreign)).isNull();
+        assertThat(jwtUtil.parseToken("not-a-token")).isNull();
+    }
+}
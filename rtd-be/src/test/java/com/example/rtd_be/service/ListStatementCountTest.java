@@ -0,0 +1,128 @@
+package com.example.rtd_be.service;
+
+import com.example.rtd_be.IntegrationTest;
+import com.example.rtd_be.dto.CursorRequest;
+import com.example.rtd_be.persistence.StatementScope;
+import com.example.rtd_be.persistence.StatementTracker;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * List calls must run the same statements whatever the page size or the
+ * number of rows; a count that grows with the page is an N+1 load.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ListStatementCountTest extends IntegrationTest {
+
+    private static final int TESTS = 120;
+    private static final int RUNS = 30;
+
+    @Autowired
+    private TestCaseService testCaseService;
+
+    @Autowired
+    private RegressionRunService regressionRunService;
+
+    @Autowired
+    private BuildService buildService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private StatementTracker statementTracker;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long smallBuildId;
+    private long largeBuildId;
+
+    @BeforeAll
+    void seed() {
+        smallBuildId = build("statements-small");
+        largeBuildId = build("statements-large");
+        for (int i = 0; i < TESTS; i++) {
+            jdbcTemplate.update("INSERT INTO test_definitions (name, module) VALUES (?, ?)",
+                    "statements.Test" + i, "statements.Module" + (i % 5));
+        }
+        jdbcTemplate.update("INSERT INTO test_cases (test_id, build_id, status, duration)"
+                + " SELECT id, ?, 'PASS', 1.0 FROM test_definitions WHERE name LIKE 'statements.%' ORDER BY id LIMIT 2",
+                smallBuildId);
+        jdbcTemplate.update("INSERT INTO test_cases (test_id, build_id, status, duration)"
+                + " SELECT id, ?, IF(id % 3 = 0, 'FAIL', 'PASS'), 1.0 FROM test_definitions WHERE name LIKE 'statements.%'",
+                largeBuildId);
+        jdbcTemplate.update("INSERT INTO regression_runs (build_id, executed_at, total_tests, passed, failed)"
+                + " VALUES (?, CURRENT_TIMESTAMP(6), 0, 0, 0)", smallBuildId);
+        for (int i = 0; i < RUNS; i++) {
+            jdbcTemplate.update("INSERT INTO regression_runs (build_id, executed_at, total_tests, passed, failed)"
+                    + " VALUES (?, CURRENT_TIMESTAMP(6), 0, 0, 0)", largeBuildId);
+        }
+    }
+
+    @Test
+    void testCasePagesRunTheSameStatementsAtAnySize() {
+        int small = statements(() -> testCaseService.getAllTestCases(page(2)));
+        int large = statements(() -> testCaseService.getAllTestCases(page(100)));
+
+        assertThat(small).isPositive();
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void buildPagesRunTheSameStatementsWhateverTheBuildHolds() {
+        int small = statements(() -> testCaseService.getTestCasesByBuild(smallBuildId, page(100)));
+        int large = statements(() -> testCaseService.getTestCasesByBuild(largeBuildId, page(100)));
+
+        assertThat(small).isPositive();
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void streamingABuildRunsOneStatement() {
+        int small = statements(() -> testCaseService.streamTestCasesByBuild(smallBuildId, testCase -> { }));
+        int large = statements(() -> testCaseService.streamTestCasesByBuild(largeBuildId, testCase -> { }));
+
+        assertThat(small).isEqualTo(1);
+        assertThat(large).isEqualTo(1);
+    }
+
+    @Test
+    void runListsRunTheSameStatementsAtAnySize() {
+        assertThat(statements(() -> regressionRunService.getAllRuns(page(RUNS))))
+                .isEqualTo(statements(() -> regressionRunService.getAllRuns(page(2))));
+        assertThat(statements(() -> regressionRunService.getRunsByBuild(largeBuildId)))
+                .isEqualTo(statements(() -> regressionRunService.getRunsByBuild(smallBuildId)));
+    }
+
+    @Test
+    void buildAndUserPagesRunOneStatement() {
+        assertThat(statements(() -> buildService.getAllBuilds(page(2)))).isEqualTo(1);
+        assertThat(statements(() -> buildService.getAllBuilds(page(100)))).isEqualTo(1);
+        assertThat(statements(() -> userService.getAllUsers(page(100)))).isEqualTo(1);
+    }
+
+    private int statements(Runnable call) {
+        try (StatementScope scope = statementTracker.open()) {
+            call.run();
+            return scope.getStatements();
+        }
+    }
+
+    private long build(String version) {
+        jdbcTemplate.update("INSERT INTO builds (version, created_at) VALUES (?, CURRENT_TIMESTAMP(6))", version);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM builds WHERE version = ?", Long.class, version);
+    }
+
+    private static CursorRequest page(int size) {
+        CursorRequest page = new CursorRequest();
+        page.setSize(size);
+        page.setDirection("desc");
+        return page;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.rtd_be.benchmarks;
+
+import com.example.rtd_be.dto.TestResultImport;
+import com.example.rtd_be.importer.TestResultSink;
+import org.openjdk.jmh.infra.Blackhole;
+
+class BlackholeSink implements TestResultSink {
+
+    private final Blackhole blackhole;
+
+    BlackholeSink(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void accept(TestResultImport row) {
+        blackhole.consume(row);
+    }
+
+    @Override
+    public void reject() {
+        blackhole.consume(false);
+    }
+}
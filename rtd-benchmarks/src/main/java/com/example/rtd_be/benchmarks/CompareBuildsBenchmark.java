@@ -0,0 +1,51 @@
+package com.example.rtd_be.benchmarks;
+
+import com.example.rtd_be.compare.BuildComparator;
+import com.example.rtd_be.dto.ComparisonRow;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class CompareBuildsBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int tests;
+
+    private List<ComparisonRow> fixture1;
+    private List<ComparisonRow> fixture2;
+    private List<ComparisonRow> build1;
+    private List<ComparisonRow> build2;
+    private BuildComparator comparator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture1 = SyntheticData.build(tests, 1);
+        fixture2 = SyntheticData.mutate(fixture1, 0.05, 2);
+        comparator = new BuildComparator();
+    }
+
+    /** compare() sorts its inputs in place, so every call gets fresh copies in the original order. */
+    @Setup(Level.Invocation)
+    public void copyFixtures() {
+        build1 = new ArrayList<>(fixture1);
+        build2 = new ArrayList<>(fixture2);
+    }
+
+    @Benchmark
+    public void compareAll(Blackhole blackhole) {
+        comparator.compare(build1, build2, false, blackhole::consume);
+    }
+
+    @Benchmark
+    public void compareChangesOnly(Blackhole blackhole) {
+        comparator.compare(build1, build2, true, blackhole::consume);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.rtd_be.benchmarks;
+
+import com.example.rtd_be.RtdBeApplication;
+import com.example.rtd_be.dto.DashboardStats;
+import com.example.rtd_be.model.TestCase;
+import com.example.rtd_be.repository.BuildRepository;
+import com.example.rtd_be.repository.TestCaseRepository;
+import com.example.rtd_be.service.DashboardService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class DashboardStatsBenchmark {
+
+    @Param({"100000"})
+    private int testsPerBuild;
+
+    @Param({"10"})
+    private int builds;
+
+    private ConfigurableApplicationContext context;
+    private DashboardService dashboardService;
+    private BuildRepository buildRepository;
+    private TestCaseRepository testCaseRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(RtdBeApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(EmbeddedDatabase.arguments(Files.createTempDirectory("rtd-bench")));
+
+        SyntheticData.seed(context.getBean(JdbcTemplate.class), builds, testsPerBuild, 7);
+        dashboardService = context.getBean(DashboardService.class);
+        buildRepository = context.getBean(BuildRepository.class);
+        testCaseRepository = context.getBean(TestCaseRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /** The four separate count queries getStats used to issue on every call. */
+    @Benchmark
+    public void fourCountQueries(Blackhole blackhole) {
+        blackhole.consume(buildRepository.count());
+        blackhole.consume(testCaseRepository.count());
+        blackhole.consume(testCaseRepository.countByStatus(TestCase.Status.PASS));
+        blackhole.consume(testCaseRepository.countByStatus(TestCase.Status.FAIL));
+    }
+
+    @Benchmark
+    public DashboardStats getStatsRefresh() {
+        dashboardService.invalidate();
+        return dashboardService.getStats();
+    }
+
+    @Benchmark
+    public DashboardStats getStatsCached() {
+        return dashboardService.getStats();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.rtd_be.benchmarks;
+
+import java.nio.file.Path;
+
+final class EmbeddedDatabase {
+
+    private EmbeddedDatabase() {
+    }
+
+    /** Command-line arguments so they take precedence over the MySQL settings in application.yaml. */
+    static String[] arguments(Path uploadDir) {
+        return new String[] {
+                "--spring.datasource.url=jdbc:h2:mem:rtd;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.springframework.security=WARN",
+                "--jwt.secret=benchmark-secret-key-must-be-at-least-256-bits-long-for-hs256",
+                "--jwt.expiration=3600000",
+                "--app.upload-dir=" + uploadDir
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.rtd_be.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Converts a JMH JSON result file into the CSV format accepted by
+ * POST /api/testcases/import/{buildId}, so benchmark scores can be tracked as
+ * test durations (in seconds) and compared between builds on the dashboard.
+ */
+public final class JmhResultsToCsv {
+
+    private JmhResultsToCsv() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: JmhResultsToCsv <jmh-results.json> <output.csv>");
+            System.exit(1);
+        }
+        JsonNode results = new ObjectMapper().readTree(Paths.get(args[0]).toFile());
+        Path output = Paths.get(args[1]);
+
+        try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            writer.write("testCaseName,module,status,duration\n");
+            for (JsonNode result : results) {
+                String benchmark = result.get("benchmark").asText();
+                int lastDot = benchmark.lastIndexOf('.');
+                String method = benchmark.substring(lastDot + 1);
+                String className = benchmark.substring(benchmark.lastIndexOf('.', lastDot - 1) + 1, lastDot);
+
+                StringBuilder name = new StringBuilder(className).append('.').append(method);
+                JsonNode params = result.get("params");
+                if (params != null) {
+                    name.append('[');
+                    Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                    while (fields.hasNext()) {
+                        Map.Entry<String, JsonNode> field = fields.next();
+                        name.append(field.getKey()).append('=').append(field.getValue().asText());
+                        if (fields.hasNext()) {
+                            name.append(' ');
+                        }
+                    }
+                    name.append(']');
+                }
+
+                JsonNode metric = result.get("primaryMetric");
+                double seconds = toSeconds(metric.get("score").asDouble(), metric.get("scoreUnit").asText());
+                writer.write(String.format(Locale.ROOT, "%s,%s,PASS,%.9f%n", name, className, seconds));
+            }
+        }
+    }
+
+    private static double toSeconds(double score, String unit) {
+        return switch (unit) {
+            case "s/op" -> score;
+            case "ms/op" -> score / 1_000;
+            case "us/op" -> score / 1_000_000;
+            case "ns/op" -> score / 1_000_000_000;
+            default -> throw new IllegalArgumentException("Unsupported score unit " + unit + ", use AverageTime mode");
+        };
+    }
+}
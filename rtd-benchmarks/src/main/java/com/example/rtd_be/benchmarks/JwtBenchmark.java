@@ -0,0 +1,104 @@
+package com.example.rtd_be.benchmarks;
+
+import com.example.rtd_be.security.JwtAuthFilter;
+import com.example.rtd_be.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-256-bits-long-for-hs256";
+    private static final int USERS = 500;
+    private static final FilterChain CHAIN = (request, response) -> { };
+
+    private JwtUtil jwtUtil;
+    private JwtAuthFilter authFilter;
+    private JwtParser parser;
+    private String token;
+    private String[] userTokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 3_600_000L, 10_000);
+
+        parser = Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build();
+        token = jwtUtil.generateToken("benchmark", "TESTER");
+        authFilter = new JwtAuthFilter(jwtUtil);
+        userTokens = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            userTokens[i] = jwtUtil.generateToken("user" + i, i % 2 == 0 ? "TESTER" : "ADMIN");
+        }
+    }
+
+    /** What JwtAuthFilter used to do: validate, extract subject, extract role, rebuilding key and parser each time. */
+    @Benchmark
+    public void threeParsesPerRequest(Blackhole blackhole) {
+        for (int i = 0; i < 3; i++) {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+            blackhole.consume(claims);
+        }
+    }
+
+    @Benchmark
+    public Claims singleParseReusedParser() {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Object parseTokenCached() {
+        return jwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object parseTokenCachedEightThreads() {
+        return jwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public Object authFilter() throws ServletException, IOException {
+        return filter();
+    }
+
+    /** The whole filter with eight requests from different users in flight, where a shared lock would show. */
+    @Benchmark
+    @Threads(8)
+    public Object authFilterEightThreads() throws ServletException, IOException {
+        return filter();
+    }
+
+    private Object filter() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/builds");
+        request.addHeader(HttpHeaders.AUTHORIZATION,
+                "Bearer " + userTokens[ThreadLocalRandom.current().nextInt(USERS)]);
+        try {
+            authFilter.doFilter(request, new MockHttpServletResponse(), CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.rtd_be.benchmarks;
+
+import com.example.rtd_be.dto.TestResultImport;
+import com.example.rtd_be.importer.TestResultSink;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+final class LegacyCsvParser {
+
+    private LegacyCsvParser() {
+    }
+
+    static void parse(InputStream in, TestResultSink sink) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] parts = line.split(",");
+                if (parts.length < 4) {
+                    sink.reject();
+                    continue;
+                }
+                TestResultImport result = new TestResultImport();
+                result.setTestCaseName(parts[0].trim());
+                result.setModule(parts[1].trim());
+                result.setStatus(parts[2].trim());
+                try {
+                    result.setDuration(Double.parseDouble(parts[3].trim()));
+                } catch (NumberFormatException e) {
+                    sink.reject();
+                    continue;
+                }
+                sink.accept(result);
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.rtd_be.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load test for GET /api/testcases/build/{buildId} against a
+ * running backend: each client thread sends a request, waits for the response
+ * and repeats. Run it once against a backend started with VIRTUAL_THREADS=false
+ * and once with VIRTUAL_THREADS=true (on JDK 21) to compare the two modes.
+ */
+public final class LoadTest {
+
+    private static final long MAX_SAMPLES_PER_CLIENT = 1_000_000;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.err.println("Usage: LoadTest <baseUrl> <username> <password> <buildId>"
+                    + " [clients=400] [durationSeconds=60] [warmupSeconds=10] [pageSize=50]");
+            System.exit(1);
+        }
+        String baseUrl = args[0].replaceAll("/+$", "");
+        long buildId = Long.parseLong(args[3]);
+        int clients = args.length > 4 ? Integer.parseInt(args[4]) : 400;
+        int durationSeconds = args.length > 5 ? Integer.parseInt(args[5]) : 60;
+        int warmupSeconds = args.length > 6 ? Integer.parseInt(args[6]) : 10;
+        int pageSize = args.length > 7 ? Integer.parseInt(args[7]) : 50;
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        String token = login(client, baseUrl, args[1], args[2]);
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create(baseUrl + "/api/testcases/build/" + buildId + "?size=" + pageSize))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        long warmupEnd = System.nanoTime() + warmupSeconds * 1_000_000_000L;
+        long end = warmupEnd + durationSeconds * 1_000_000_000L;
+        long[][] samples = new long[clients][];
+        int[] counts = new int[clients];
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(clients);
+
+        for (int i = 0; i < clients; i++) {
+            int index = i;
+            Thread thread = new Thread(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                try {
+                    long now;
+                    while ((now = System.nanoTime()) < end) {
+                        boolean ok;
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            ok = response.statusCode() == 200;
+                        } catch (IOException e) {
+                            ok = false;
+                        }
+                        long finished = System.nanoTime();
+                        if (now < warmupEnd) {
+                            continue;
+                        }
+                        if (!ok) {
+                            errors.incrementAndGet();
+                        } else if (count < MAX_SAMPLES_PER_CLIENT) {
+                            if (count == latencies.length) {
+                                latencies = Arrays.copyOf(latencies, count * 2);
+                            }
+                            latencies[count++] = finished - now;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    samples[index] = latencies;
+                    counts[index] = count;
+                    done.countDown();
+                }
+            }, "load-client-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        long[] all = new long[total];
+        int offset = 0;
+        for (int i = 0; i < clients; i++) {
+            System.arraycopy(samples[i], 0, all, offset, counts[i]);
+            offset += counts[i];
+        }
+        Arrays.sort(all);
+
+        System.out.printf(Locale.ROOT, "clients=%d duration=%ds requests=%d errors=%d%n",
+                clients, durationSeconds, total, errors.get());
+        System.out.printf(Locale.ROOT, "throughput=%.1f req/s%n", total / (double) durationSeconds);
+        System.out.printf(Locale.ROOT, "latency p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms%n",
+                percentile(all, 0.50), percentile(all, 0.90), percentile(all, 0.99), percentile(all, 1.0));
+    }
+
+    private static String login(HttpClient client, String baseUrl, String username, String password)
+            throws IOException, InterruptedException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String body = objectMapper.writeValueAsString(Map.of("username", username, "password", password));
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("Login failed with status " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body()).get("token").asText();
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
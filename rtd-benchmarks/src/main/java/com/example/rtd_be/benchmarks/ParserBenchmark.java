@@ -0,0 +1,51 @@
+package com.example.rtd_be.benchmarks;
+
+import com.example.rtd_be.importer.CsvTestResultParser;
+import com.example.rtd_be.importer.JsonTestResultParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.unit.DataSize;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({"10000", "100000"})
+    private int rows;
+
+    private byte[] csv;
+    private byte[] json;
+    private CsvTestResultParser csvParser;
+    private JsonTestResultParser jsonParser;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        csv = SyntheticData.csv(rows, 42);
+        json = SyntheticData.json(rows, 42);
+        csvParser = new CsvTestResultParser(DataSize.ofMegabytes(1));
+        jsonParser = new JsonTestResultParser(new ObjectMapper());
+    }
+
+    @Benchmark
+    public void parseCSV(Blackhole blackhole) throws IOException {
+        csvParser.parse(new ByteArrayInputStream(csv), new BlackholeSink(blackhole));
+    }
+
+    @Benchmark
+    public void parseCSVLegacy(Blackhole blackhole) throws IOException {
+        LegacyCsvParser.parse(new ByteArrayInputStream(csv), new BlackholeSink(blackhole));
+    }
+
+    @Benchmark
+    public void parseJSON(Blackhole blackhole) throws IOException {
+        jsonParser.parse(new ByteArrayInputStream(json), new BlackholeSink(blackhole));
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.rtd_be.benchmarks;
+
+import com.example.rtd_be.dto.ComparisonRow;
+import com.example.rtd_be.model.TestCase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+public final class SyntheticData {
+
+    private static final String[] MODULES = {
+            "Authentication", "Builds", "TestCases", "Regression", "Dashboard", "Users", "Imports", "Reports"
+    };
+
+    private SyntheticData() {
+    }
+
+    public static String testName(int index) {
+        return String.format(Locale.ROOT, "test%07d", index);
+    }
+
+    public static String module(int index) {
+        return MODULES[index % MODULES.length];
+    }
+
+    public static TestCase.Status status(Random random) {
+        int roll = random.nextInt(100);
+        if (roll < 85) {
+            return TestCase.Status.PASS;
+        } else if (roll < 95) {
+            return TestCase.Status.FAIL;
+        } else if (roll < 98) {
+            return TestCase.Status.BLOCKED;
+        }
+        return TestCase.Status.PENDING;
+    }
+
+    public static double duration(Random random) {
+        return Math.round((0.05 + random.nextDouble() * 2) * 100) / 100.0;
+    }
+
+    public static List<ComparisonRow> build(int tests, long seed) {
+        Random random = new Random(seed);
+        List<ComparisonRow> rows = new ArrayList<>(tests);
+        for (int i = 0; i < tests; i++) {
+            rows.add(new ComparisonRow(testName(i), module(i), status(random), duration(random)));
+        }
+        return rows;
+    }
+
+    public static List<ComparisonRow> mutate(List<ComparisonRow> base, double changeRate, long seed) {
+        Random random = new Random(seed);
+        List<ComparisonRow> rows = new ArrayList<>(base.size());
+        for (ComparisonRow row : base) {
+            if (random.nextDouble() < changeRate) {
+                rows.add(new ComparisonRow(row.name(), row.module(), status(random), duration(random)));
+            } else {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    public static byte[] csv(int rows, long seed) {
+        Random random = new Random(seed);
+        StringBuilder out = new StringBuilder(rows * 48);
+        out.append("testCaseName,module,status,duration\n");
+        for (int i = 0; i < rows; i++) {
+            out.append(testName(i)).append(',')
+                    .append(module(i)).append(',')
+                    .append(status(random).name()).append(',')
+                    .append(duration(random)).append('\n');
+        }
+        return out.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static byte[] json(int rows, long seed) {
+        Random random = new Random(seed);
+        StringBuilder out = new StringBuilder(rows * 96);
+        out.append('[');
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append("{\"testCaseName\":\"").append(testName(i))
+                    .append("\",\"module\":\"").append(module(i))
+                    .append("\",\"status\":\"").append(status(random).name())
+                    .append("\",\"duration\":").append(duration(random))
+                    .append('}');
+        }
+        out.append(']');
+        return out.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static void seed(JdbcTemplate jdbcTemplate, int builds, int testsPerBuild, long seed) {
+        Random random = new Random(seed);
+        List<Object[]> definitions = new ArrayList<>(testsPerBuild);
+        for (int i = 0; i < testsPerBuild; i++) {
+            definitions.add(new Object[] { testName(i), module(i) });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO test_definitions (name, module) VALUES (?, ?)", definitions);
+        Map<String, Long> testIds = new HashMap<>(testsPerBuild * 2);
+        jdbcTemplate.query("SELECT id, name FROM test_definitions", rs -> {
+            testIds.put(rs.getString("name"), rs.getLong("id"));
+        });
+
+        for (int b = 0; b < builds; b++) {
+            jdbcTemplate.update("INSERT INTO builds (version, description) VALUES (?, ?)",
+                    "V" + b, "Synthetic build " + b);
+            Long buildId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM builds", Long.class);
+
+            List<Object[]> batch = new ArrayList<>(1000);
+            for (int i = 0; i < testsPerBuild; i++) {
+                batch.add(new Object[] { testIds.get(testName(i)), duration(random), status(random).name(), buildId });
+                if (batch.size() == 1000) {
+                    insertTestCases(jdbcTemplate, batch);
+                    batch.clear();
+                }
+            }
+            insertTestCases(jdbcTemplate, batch);
+        }
+    }
+
+    private static void insertTestCases(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO test_cases (test_id, duration, status, build_id) VALUES (?, ?, ?, ?)", batch);
+        }
+    }
+}
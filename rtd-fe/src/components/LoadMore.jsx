@@ -0,0 +1,25 @@
+import { LOAD_MORE } from '../hooks/useCursorList';
+
+// Footer for a paged table
+const LoadMore = ({ list }) => {
+  if (!list.hasMore) {
+    return null;
+  }
+  return (
+    <div className="flex justify-center py-4 border-t border-gray-200">
+      <button
+        onClick={list.loadMore}
+        disabled={list.loadingMore}
+        className="text-blue-600 hover:text-blue-800 disabled:opacity-50"
+      >
+        {list.loadingMore ? 'Loading...' : 'Load more'}
+      </button>
+    </div>
+  );
+};
+
+// Last <option> of a select fed by a paged list; pair with selectOrLoadMore
+export const LoadMoreOption = ({ list, label = 'Load older builds...' }) =>
+  list.hasMore ? <option value={LOAD_MORE}>{list.loadingMore ? 'Loading...' : label}</option> : null;
+
+export default LoadMore;
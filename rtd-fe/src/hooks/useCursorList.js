@@ -0,0 +1,53 @@
+import { useCallback, useState } from 'react';
+import { toast } from 'react-toastify';
+
+export const PAGE_SIZE = 50;
+export const LOAD_MORE = '__load_more';
+
+// Accumulates a keyset-paged list ({ items, hasNext, nextCursor }) one page at a time.
+// fetchPage(after) must be stable, e.g. defined outside the component.
+const useCursorList = (fetchPage) => {
+  const [items, setItems] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
+
+  const reload = useCallback(async () => {
+    try {
+      const { data } = await fetchPage();
+      setItems(data.items);
+      setNextCursor(data.hasNext ? data.nextCursor : null);
+    } finally {
+      setLoading(false);
+    }
+  }, [fetchPage]);
+
+  const loadMore = useCallback(async () => {
+    if (nextCursor == null || loadingMore) {
+      return;
+    }
+    setLoadingMore(true);
+    try {
+      const { data } = await fetchPage(nextCursor);
+      setItems((current) => [...current, ...data.items]);
+      setNextCursor(data.hasNext ? data.nextCursor : null);
+    } catch (error) {
+      toast.error('Failed to load more');
+    } finally {
+      setLoadingMore(false);
+    }
+  }, [fetchPage, nextCursor, loadingMore]);
+
+  return { items, setItems, loading, loadingMore, hasMore: nextCursor != null, reload, loadMore };
+};
+
+// onChange for a select whose last option is <LoadMoreOption list={list} />
+export const selectOrLoadMore = (list, setValue) => (e) => {
+  if (e.target.value === LOAD_MORE) {
+    list.loadMore();
+  } else {
+    setValue(e.target.value);
+  }
+};
+
+export default useCursorList;
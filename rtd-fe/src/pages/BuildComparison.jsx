@@ -1,11 +1,16 @@
 import { useState, useEffect } from 'react';
 import Layout from '../components/Layout';
+import { LoadMoreOption } from '../components/LoadMore';
+import useCursorList, { PAGE_SIZE, selectOrLoadMore } from '../hooks/useCursorList';
 import { testCaseAPI, buildAPI } from '../services/api';
 import { useAuth } from '../context/AuthContext';
 import { toast } from 'react-toastify';
 
+const fetchBuildPage = (after) => buildAPI.getAll({ after, size: PAGE_SIZE, direction: 'desc' });
+
 const BuildComparison = () => {
-  const [builds, setBuilds] = useState([]);
+  const buildList = useCursorList(fetchBuildPage);
+  const builds = buildList.items;
   const [build1Id, setBuild1Id] = useState('');
   const [build2Id, setBuild2Id] = useState('');
   const [comparison, setComparison] = useState([]);
@@ -18,8 +23,7 @@ const BuildComparison = () => {
 
   const fetchBuilds = async () => {
     try {
-      const response = await buildAPI.getAll();
-      setBuilds(response.data);
+      await buildList.reload();
     } catch (error) {
       toast.error('Failed to fetch builds');
     }
@@ -73,7 +77,7 @@ const BuildComparison = () => {
               <label className="block text-sm font-medium text-gray-700 mb-2">Build 1</label>
               <select
                 value={build1Id}
-                onChange={(e) => setBuild1Id(e.target.value)}
+                onChange={selectOrLoadMore(buildList, setBuild1Id)}
                 className="w-full px-4 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500"
               >
                 <option value="">Select Build 1</option>
@@ -82,13 +86,14 @@ const BuildComparison = () => {
                     {build.version}
                   </option>
                 ))}
+                <LoadMoreOption list={buildList} />
               </select>
             </div>
             <div>
               <label className="block text-sm font-medium text-gray-700 mb-2">Build 2</label>
               <select
                 value={build2Id}
-                onChange={(e) => setBuild2Id(e.target.value)}
+                onChange={selectOrLoadMore(buildList, setBuild2Id)}
                 className="w-full px-4 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500"
               >
                 <option value="">Select Build 2</option>
@@ -97,6 +102,7 @@ const BuildComparison = () => {
                     {build.version}
                   </option>
                 ))}
+                <LoadMoreOption list={buildList} />
               </select>
             </div>
             <div className="flex items-end">
@@ -188,6 +194,14 @@ const BuildComparison = () => {
                         <span className={`px-3 py-1 rounded-full text-xs font-semibold ${getStatusChangeColor(item.statusChange)}`}>
                           {item.statusChange}
                         </span>
+                        {item.flaky && (
+                          <span
+                            className="ml-2 px-2 py-1 rounded-full text-xs font-semibold bg-purple-100 text-purple-800"
+                            title={`Flips in ${Math.round(item.flakiness * 100)}% of recent builds`}
+                          >
+                            FLAKY
+                          </span>
+                        )}
                       </td>
                       <td className="px-6 py-4">
                         {item.durationChange !== null ? (
@@ -195,6 +209,14 @@ const BuildComparison = () => {
                             {item.durationChange > 0 ? '+' : ''}{item.durationChange.toFixed(2)}s
                           </span>
                         ) : 'N/A'}
+                        {item.durationSigmas != null && (
+                          <span
+                            className="ml-2 px-2 py-1 rounded-full text-xs font-semibold bg-orange-100 text-orange-800"
+                            title={`${item.durationSigmas.toFixed(1)}σ slower than its baseline`}
+                          >
+                            SLOWER
+                          </span>
+                        )}
                       </td>
                     </tr>
                   ))}
@@ -1,12 +1,16 @@
 import { useState, useEffect } from 'react';
 import Layout from '../components/Layout';
+import LoadMore from '../components/LoadMore';
+import useCursorList, { PAGE_SIZE } from '../hooks/useCursorList';
 import { buildAPI } from '../services/api';
 import { useAuth } from '../context/AuthContext';
 import { toast } from 'react-toastify';
 
+const fetchBuildPage = (after) => buildAPI.getAll({ after, size: PAGE_SIZE, direction: 'desc' });
+
 const Builds = () => {
-  const [builds, setBuilds] = useState([]);
-  const [loading, setLoading] = useState(true);
+  const buildList = useCursorList(fetchBuildPage);
+  const { items: builds, loading } = buildList;
   const [showModal, setShowModal] = useState(false);
   const [editingBuild, setEditingBuild] = useState(null);
   const [formData, setFormData] = useState({ version: '', description: '' });
@@ -18,12 +22,9 @@ const Builds = () => {
 
   const fetchBuilds = async () => {
     try {
-      const response = await buildAPI.getAll();
-      setBuilds(response.data);
+      await buildList.reload();
     } catch (error) {
       toast.error('Failed to fetch builds');
-    } finally {
-      setLoading(false);
     }
   };
 
@@ -126,6 +127,7 @@ const Builds = () => {
                 ))}
               </tbody>
             </table>
+            <LoadMore list={buildList} />
           </div>
         )}
 
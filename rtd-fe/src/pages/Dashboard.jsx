@@ -1,6 +1,7 @@
 import { useState, useEffect } from 'react';
 import Layout from '../components/Layout';
 import { dashboardAPI } from '../services/api';
+import { subscribeLive } from '../services/live';
 import { BarChart, Bar, XAxis, YAxis, CartesianGrid, Tooltip, Legend, ResponsiveContainer, PieChart, Pie, Cell } from 'recharts';
 import { toast } from 'react-toastify';
 
@@ -10,6 +11,9 @@ const Dashboard = () => {
 
   useEffect(() => {
     fetchStats();
+    return subscribeLive({
+      stats: (data) => setStats(data),
+    });
   }, []);
 
   const fetchStats = async () => {
@@ -36,6 +40,8 @@ const Dashboard = () => {
   const pieData = [
     { name: 'Passed', value: stats?.passedTests || 0, color: '#10b981' },
     { name: 'Failed', value: stats?.failedTests || 0, color: '#ef4444' },
+    { name: 'Blocked', value: stats?.blockedTests || 0, color: '#f59e0b' },
+    { name: 'Pending', value: stats?.pendingTests || 0, color: '#9ca3af' },
   ];
 
   const barData = [
@@ -43,6 +49,8 @@ const Dashboard = () => {
     { name: 'Total Tests', value: stats?.totalTestCases || 0 },
     { name: 'Passed', value: stats?.passedTests || 0 },
     { name: 'Failed', value: stats?.failedTests || 0 },
+    { name: 'Blocked', value: stats?.blockedTests || 0 },
+    { name: 'Pending', value: stats?.pendingTests || 0 },
   ];
 
   return (
@@ -1,33 +1,40 @@
 import { useState, useEffect } from 'react';
 import Layout from '../components/Layout';
+import LoadMore, { LoadMoreOption } from '../components/LoadMore';
+import useCursorList, { PAGE_SIZE, selectOrLoadMore } from '../hooks/useCursorList';
 import { regressionAPI, buildAPI } from '../services/api';
+import { subscribeLive } from '../services/live';
 import { useAuth } from '../context/AuthContext';
 import { toast } from 'react-toastify';
 
+const fetchRunPage = (after) => regressionAPI.getAll({ after, size: PAGE_SIZE, direction: 'desc' });
+const fetchBuildPage = (after) => buildAPI.getAll({ after, size: PAGE_SIZE, direction: 'desc' });
+
 const RegressionRuns = () => {
-  const [runs, setRuns] = useState([]);
-  const [builds, setBuilds] = useState([]);
-  const [loading, setLoading] = useState(true);
+  const runList = useCursorList(fetchRunPage);
+  const buildList = useCursorList(fetchBuildPage);
+  const { items: runs, setItems: setRuns, loading } = runList;
+  const builds = buildList.items;
   const [selectedBuildId, setSelectedBuildId] = useState('');
   const [executing, setExecuting] = useState(false);
   const { user } = useAuth();
 
   useEffect(() => {
     fetchData();
+    return subscribeLive({
+      'regression-run': (run) => addRun(run),
+    });
   }, []);
 
+  const addRun = (run) => {
+    setRuns((current) => (current.some((r) => r.id === run.id) ? current : [run, ...current]));
+  };
+
   const fetchData = async () => {
     try {
-      const [runsRes, buildsRes] = await Promise.all([
-        regressionAPI.getAll(),
-        buildAPI.getAll(),
-      ]);
-      setRuns(runsRes.data);
-      setBuilds(buildsRes.data);
+      await Promise.all([runList.reload(), buildList.reload()]);
     } catch (error) {
       toast.error('Failed to fetch data');
-    } finally {
-      setLoading(false);
     }
   };
 
@@ -39,10 +46,10 @@ const RegressionRuns = () => {
 
     setExecuting(true);
     try {
-      await regressionAPI.execute(selectedBuildId);
+      const { data: run } = await regressionAPI.execute(selectedBuildId);
+      addRun(run);
       toast.success('Regression run executed successfully');
       setSelectedBuildId('');
-      fetchData();
     } catch (error) {
       toast.error(error.response?.data?.error || 'Execution failed');
     } finally {
@@ -63,7 +70,7 @@ const RegressionRuns = () => {
             <div className="flex space-x-4">
               <select
                 value={selectedBuildId}
-                onChange={(e) => setSelectedBuildId(e.target.value)}
+                onChange={selectOrLoadMore(buildList, setSelectedBuildId)}
                 className="flex-1 px-4 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500"
               >
                 <option value="">Select Build</option>
@@ -72,6 +79,7 @@ const RegressionRuns = () => {
                     {build.version}
                   </option>
                 ))}
+                <LoadMoreOption list={buildList} />
               </select>
               <button
                 onClick={handleExecute}
@@ -104,7 +112,7 @@ const RegressionRuns = () => {
                   const passRate = run.totalTests > 0 ? ((run.passed / run.totalTests) * 100).toFixed(1) : 0;
                   return (
                     <tr key={run.id} className="hover:bg-gray-50">
-                      <td className="px-6 py-4 font-medium text-gray-900">{run.build?.version}</td>
+                      <td className="px-6 py-4 font-medium text-gray-900">{run.buildVersion}</td>
                       <td className="px-6 py-4 text-gray-600">{run.totalTests}</td>
                       <td className="px-6 py-4 text-green-600 font-semibold">{run.passed}</td>
                       <td className="px-6 py-4 text-red-600 font-semibold">{run.failed}</td>
@@ -125,6 +133,7 @@ const RegressionRuns = () => {
                 })}
               </tbody>
             </table>
+            <LoadMore list={runList} />
           </div>
         )}
       </div>
@@ -1,13 +1,20 @@
-import { useState, useEffect } from 'react';
+import { useState, useEffect, useRef } from 'react';
 import Layout from '../components/Layout';
-import { testCaseAPI, buildAPI } from '../services/api';
+import LoadMore, { LoadMoreOption } from '../components/LoadMore';
+import useCursorList, { PAGE_SIZE, selectOrLoadMore } from '../hooks/useCursorList';
+import { testCaseAPI, buildAPI, importAPI } from '../services/api';
+import { subscribeLive } from '../services/live';
 import { useAuth } from '../context/AuthContext';
 import { toast } from 'react-toastify';
 
+const fetchTestCasePage = (after) => testCaseAPI.getAll({ after, size: PAGE_SIZE, direction: 'desc' });
+const fetchBuildPage = (after) => buildAPI.getAll({ after, size: PAGE_SIZE, direction: 'desc' });
+
 const TestCases = () => {
-  const [testCases, setTestCases] = useState([]);
-  const [builds, setBuilds] = useState([]);
-  const [loading, setLoading] = useState(true);
+  const testCaseList = useCursorList(fetchTestCasePage);
+  const buildList = useCursorList(fetchBuildPage);
+  const { items: testCases, loading } = testCaseList;
+  const builds = buildList.items;
   const [showModal, setShowModal] = useState(false);
   const [showImportModal, setShowImportModal] = useState(false);
   const [editingTestCase, setEditingTestCase] = useState(null);
@@ -20,23 +27,24 @@ const TestCases = () => {
     buildId: '',
   });
   const { user } = useAuth();
+  const pendingJobs = useRef(new Set());
 
   useEffect(() => {
     fetchData();
+    return subscribeLive({
+      import: (job) => {
+        if (pendingJobs.current.has(job.jobId)) {
+          handleImportJob(job);
+        }
+      },
+    });
   }, []);
 
   const fetchData = async () => {
     try {
-      const [testCasesRes, buildsRes] = await Promise.all([
-        testCaseAPI.getAll(),
-        buildAPI.getAll(),
-      ]);
-      setTestCases(testCasesRes.data);
-      setBuilds(buildsRes.data);
+      await Promise.all([testCaseList.reload(), buildList.reload()]);
     } catch (error) {
       toast.error('Failed to fetch data');
-    } finally {
-      setLoading(false);
     }
   };
 
@@ -68,11 +76,11 @@ const TestCases = () => {
 
     try {
       const response = await testCaseAPI.import(importBuildId, selectedFile);
-      toast.success(`Imported ${response.data.length} test cases successfully`);
       setShowImportModal(false);
       setSelectedFile(null);
       setImportBuildId('');
-      fetchData();
+      toast.info('Import queued');
+      trackImportJob(response.data.jobId);
     } catch (error) {
       console.error('Import error:', error);
       const errorMsg = error.response?.data?.error || error.message || 'Import failed';
@@ -80,13 +88,37 @@ const TestCases = () => {
     }
   };
 
+  const trackImportJob = async (jobId) => {
+    pendingJobs.current.add(jobId);
+    try {
+      const { data: job } = await importAPI.getStatus(jobId);
+      handleImportJob(job);
+    } catch (error) {
+      toast.error(error.response?.data?.error || 'Failed to fetch import status');
+    }
+  };
+
+  const handleImportJob = (job) => {
+    if (!pendingJobs.current.has(job.jobId)) {
+      return;
+    }
+    if (job.status === 'COMPLETED') {
+      pendingJobs.current.delete(job.jobId);
+      toast.success(`Imported ${job.rowsProcessed} test cases successfully${job.rowsRejected ? ` (${job.rowsRejected} rejected)` : ''}`);
+      fetchData();
+    } else if (job.status === 'FAILED') {
+      pendingJobs.current.delete(job.jobId);
+      toast.error(job.error || 'Import failed');
+    }
+  };
+
   const handleEdit = (testCase) => {
     setEditingTestCase(testCase);
     setFormData({
       name: testCase.name,
       description: testCase.description,
       status: testCase.status,
-      buildId: testCase.build?.id || '',
+      buildId: testCase.buildId || '',
     });
     setShowModal(true);
   };
@@ -127,7 +159,7 @@ const TestCases = () => {
                   onClick={() => setShowImportModal(true)}
                   className="bg-green-600 hover:bg-green-700 text-white px-6 py-2 rounded-lg transition"
                 >
-                  📁 Import CSV/JSON
+                  📁 Import Results
                 </button>
                 <button
                   onClick={() => {
@@ -162,7 +194,17 @@ const TestCases = () => {
               <tbody className="divide-y divide-gray-200">
                 {testCases.map((testCase) => (
                   <tr key={testCase.id} className="hover:bg-gray-50">
-                    <td className="px-6 py-4 font-medium text-gray-900">{testCase.name}</td>
+                    <td className="px-6 py-4 font-medium text-gray-900">
+                      {testCase.name}
+                      {testCase.flaky && (
+                        <span
+                          className="ml-2 px-2 py-1 rounded-full text-xs font-semibold bg-purple-100 text-purple-800"
+                          title={`Flips in ${Math.round(testCase.flakiness * 100)}% of recent builds`}
+                        >
+                          FLAKY
+                        </span>
+                      )}
+                    </td>
                     <td className="px-6 py-4 text-gray-600">{testCase.module || 'N/A'}</td>
                     <td className="px-6 py-4">
                       <span className={`px-3 py-1 rounded-full text-xs font-semibold ${getStatusColor(testCase.status)}`}>
@@ -170,7 +212,7 @@ const TestCases = () => {
                       </span>
                     </td>
                     <td className="px-6 py-4 text-gray-600">{testCase.duration ? `${testCase.duration}s` : 'N/A'}</td>
-                    <td className="px-6 py-4 text-gray-600">{testCase.build?.version || 'N/A'}</td>
+                    <td className="px-6 py-4 text-gray-600">{testCase.buildVersion || 'N/A'}</td>
                     {canModify && (
                       <td className="px-6 py-4 space-x-2">
                         <button
@@ -191,6 +233,7 @@ const TestCases = () => {
                 ))}
               </tbody>
             </table>
+            <LoadMore list={testCaseList} />
           </div>
         )}
 
@@ -235,7 +278,7 @@ const TestCases = () => {
                   <label className="block text-sm font-medium text-gray-700 mb-2">Build</label>
                   <select
                     value={formData.buildId}
-                    onChange={(e) => setFormData({ ...formData, buildId: e.target.value })}
+                    onChange={selectOrLoadMore(buildList, (buildId) => setFormData({ ...formData, buildId }))}
                     className="w-full px-4 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500"
                   >
                     <option value="">Select Build</option>
@@ -244,6 +287,7 @@ const TestCases = () => {
                         {build.version}
                       </option>
                     ))}
+                    <LoadMoreOption list={buildList} />
                   </select>
                 </div>
                 <div className="flex space-x-3">
@@ -275,7 +319,7 @@ const TestCases = () => {
                   <label className="block text-sm font-medium text-gray-700 mb-2">Select Build</label>
                   <select
                     value={importBuildId}
-                    onChange={(e) => setImportBuildId(e.target.value)}
+                    onChange={selectOrLoadMore(buildList, setImportBuildId)}
                     className="w-full px-4 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500"
                     required
                   >
@@ -285,18 +329,19 @@ const TestCases = () => {
                         {build.version}
                       </option>
                     ))}
+                    <LoadMoreOption list={buildList} />
                   </select>
                 </div>
                 <div>
-                  <label className="block text-sm font-medium text-gray-700 mb-2">Upload File (CSV or JSON)</label>
+                  <label className="block text-sm font-medium text-gray-700 mb-2">Upload File (CSV, JSON or JUnit XML)</label>
                   <input
                     type="file"
-                    accept=".csv,.json"
+                    accept=".csv,.json,.xml,.zip"
                     onChange={(e) => setSelectedFile(e.target.files[0])}
                     className="w-full px-4 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500"
                     required
                   />
-                  <p className="text-xs text-gray-500 mt-2">Supported formats: CSV, JSON</p>
+                  <p className="text-xs text-gray-500 mt-2">Supported formats: CSV, JSON, JUnit/Surefire XML, ZIP of XML reports</p>
                 </div>
                 <div className="flex space-x-3">
                   <button
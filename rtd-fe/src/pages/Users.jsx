@@ -1,11 +1,15 @@
 import { useState, useEffect } from 'react';
 import Layout from '../components/Layout';
+import LoadMore from '../components/LoadMore';
+import useCursorList, { PAGE_SIZE } from '../hooks/useCursorList';
 import { userAPI } from '../services/api';
 import { toast } from 'react-toastify';
 
+const fetchUserPage = (after) => userAPI.getAll({ after, size: PAGE_SIZE });
+
 const Users = () => {
-  const [users, setUsers] = useState([]);
-  const [loading, setLoading] = useState(true);
+  const userList = useCursorList(fetchUserPage);
+  const { items: users, loading } = userList;
   const [showModal, setShowModal] = useState(false);
   const [editingUser, setEditingUser] = useState(null);
   const [formData, setFormData] = useState({
@@ -21,12 +25,9 @@ const Users = () => {
 
   const fetchUsers = async () => {
     try {
-      const response = await userAPI.getAll();
-      setUsers(response.data);
+      await userList.reload();
     } catch (error) {
       toast.error('Failed to fetch users');
-    } finally {
-      setLoading(false);
     }
   };
 
@@ -143,6 +144,7 @@ const Users = () => {
                 ))}
               </tbody>
             </table>
+            <LoadMore list={userList} />
           </div>
         )}
 
@@ -38,7 +38,7 @@ export const dashboardAPI = {
 };
 
 export const buildAPI = {
-  getAll: () => api.get('/builds'),
+  getAll: (params) => api.get('/builds', { params }),
   getById: (id) => api.get(`/builds/${id}`),
   create: (data) => api.post('/builds', data),
   update: (id, data) => api.put(`/builds/${id}`, data),
@@ -46,8 +46,8 @@ export const buildAPI = {
 };
 
 export const testCaseAPI = {
-  getAll: () => api.get('/testcases'),
-  getByBuild: (buildId) => api.get(`/testcases/build/${buildId}`),
+  getAll: (params) => api.get('/testcases', { params }),
+  getByBuild: (buildId, params) => api.get(`/testcases/build/${buildId}`, { params }),
   getById: (id) => api.get(`/testcases/${id}`),
   create: (data) => api.post('/testcases', data),
   update: (id, data) => api.put(`/testcases/${id}`, data),
@@ -62,14 +62,18 @@ export const testCaseAPI = {
   compare: (build1Id, build2Id) => api.get(`/testcases/compare?build1Id=${build1Id}&build2Id=${build2Id}`),
 };
 
+export const importAPI = {
+  getStatus: (jobId) => api.get(`/imports/${jobId}`),
+};
+
 export const regressionAPI = {
-  getAll: () => api.get('/regression'),
+  getAll: (params) => api.get('/regression', { params }),
   getByBuild: (buildId) => api.get(`/regression/build/${buildId}`),
   execute: (buildId) => api.post(`/regression/execute/${buildId}`),
 };
 
 export const userAPI = {
-  getAll: () => api.get('/users'),
+  getAll: (params) => api.get('/users', { params }),
   getById: (id) => api.get(`/users/${id}`),
   create: (data) => api.post('/users', data),
   update: (id, data) => api.put(`/users/${id}`, data),
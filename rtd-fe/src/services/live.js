@@ -0,0 +1,61 @@
+const LIVE_URL = 'http://localhost:8080/api/live';
+const RETRY_DELAY_MS = 3000;
+
+// EventSource cannot send the Authorization header, so the stream is read with fetch.
+export const subscribeLive = (handlers) => {
+  const controller = new AbortController();
+  let retryTimer = null;
+
+  const dispatch = (block) => {
+    let event = 'message';
+    const data = [];
+    for (const line of block.split('\n')) {
+      if (line.startsWith('event:')) {
+        event = line.slice(6).trim();
+      } else if (line.startsWith('data:')) {
+        data.push(line.slice(5).trimStart());
+      }
+    }
+    if (data.length && handlers[event]) {
+      handlers[event](JSON.parse(data.join('\n')));
+    }
+  };
+
+  const connect = async () => {
+    try {
+      const response = await fetch(LIVE_URL, {
+        headers: {
+          Accept: 'text/event-stream',
+          Authorization: `Bearer ${localStorage.getItem('token')}`,
+        },
+        signal: controller.signal,
+      });
+      if (!response.ok) {
+        throw new Error(`Live feed unavailable (${response.status})`);
+      }
+      const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+      let buffer = '';
+      for (;;) {
+        const { value, done } = await reader.read();
+        if (done) break;
+        buffer += value.replace(/\r\n?/g, '\n');
+        let boundary;
+        while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+          dispatch(buffer.slice(0, boundary));
+          buffer = buffer.slice(boundary + 2);
+        }
+      }
+    } catch (error) {
+      if (controller.signal.aborted) return;
+    }
+    if (!controller.signal.aborted) {
+      retryTimer = setTimeout(connect, RETRY_DELAY_MS);
+    }
+  };
+
+  connect();
+  return () => {
+    controller.abort();
+    clearTimeout(retryTimer);
+  };
+};